@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.api.exception;
+
+import java.io.Serial;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The <code>DatastoreBatchSaveException</code> class represents an exception that occurred when attempting to save a batch of objects to a data
+ * storage implementation. It carries the IDs of the objects that could not be saved so the caller can retry or report them individually.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class DatastoreBatchSaveException extends DatastoreSaveException {
+    /**
+     * Serial Version ID implements the {@link java.io.Serializable} contract.
+     */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The IDs of the objects in the batch that could not be saved.
+     */
+    private final List<UUID> failedIds;
+
+    /**
+     * Base constructor taking an error message and the IDs of the objects that failed to save.
+     *
+     * @param message Error message describing what caused the exception.
+     * @param failedIds Value of {@link #failedIds}.
+     */
+    public DatastoreBatchSaveException(final String message, final Collection<UUID> failedIds) {
+        super(message);
+        this.failedIds = List.copyOf(failedIds);
+    }
+
+    /**
+     * Base constructor taking an error message and the IDs of the objects that failed to save.
+     *
+     * @param message Error message describing what caused the exception.
+     * @param cause Exception that caused this exception to be generated.
+     * @param failedIds Value of {@link #failedIds}.
+     */
+    public DatastoreBatchSaveException(final String message, final Throwable cause, final Collection<UUID> failedIds) {
+        super(message, cause);
+        this.failedIds = List.copyOf(failedIds);
+    }
+
+    /**
+     * Accessor for the {@link #failedIds} member variable.
+     *
+     * @return Current value of the {@link #failedIds} member variable
+     */
+    public List<UUID> getFailedIds() {
+        return failedIds;
+    }
+}
\ No newline at end of file
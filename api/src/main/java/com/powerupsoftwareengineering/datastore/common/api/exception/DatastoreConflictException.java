@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.api.exception;
+
+import java.io.Serial;
+import java.util.UUID;
+
+/**
+ * The <code>DatastoreConflictException</code> class represents an exception that occurred when an object could not be saved to a data storage
+ * implementation because the stored version was changed by someone else after the object was read. Conflicts are an expected outcome of optimistic
+ * concurrency, so no stack trace is captured.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class DatastoreConflictException extends DatastoreSaveException {
+    /**
+     * Serial Version ID implements the {@link java.io.Serializable} contract.
+     */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The ID of the object that could not be saved.
+     */
+    private final UUID id;
+    /**
+     * The version the object was expected to have in the data storage implementation.
+     */
+    private final long expectedVersion;
+
+    /**
+     * Base constructor taking the ID and expected version of the object that could not be saved.
+     *
+     * @param id Value of {@link #id}.
+     * @param expectedVersion Value of {@link #expectedVersion}.
+     */
+    public DatastoreConflictException(final UUID id, final long expectedVersion) {
+        super("Object " + id + " was not at expected version " + expectedVersion, DatastoreErrorCode.VERSION_CONFLICT, false);
+        this.id = id;
+        this.expectedVersion = expectedVersion;
+    }
+
+    /**
+     * Accessor for the {@link #id} member variable.
+     *
+     * @return Current value of the {@link #id} member variable
+     */
+    public UUID getId() {
+        return id;
+    }
+
+    /**
+     * Accessor for the {@link #expectedVersion} member variable.
+     *
+     * @return Current value of the {@link #expectedVersion} member variable
+     */
+    public long getExpectedVersion() {
+        return expectedVersion;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.api.exception;
+
+/**
+ * The <code>DatastoreErrorCategory</code> enum groups {@link DatastoreErrorCode}s by the kind of failure, for reporting and for deciding how a caller
+ * reacts.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public enum DatastoreErrorCategory {
+    /**
+     * The object was changed by someone else since it was read.
+     */
+    CONFLICT,
+    /**
+     * The object does not exist.
+     */
+    NOT_FOUND,
+    /**
+     * The data storage implementation rejected the object because it breaks an integrity rule.
+     */
+    INTEGRITY,
+    /**
+     * The operation lost out to a concurrent transaction.
+     */
+    CONCURRENCY,
+    /**
+     * The connection to the data storage implementation failed.
+     */
+    CONNECTION,
+    /**
+     * The failure could not be classified.
+     */
+    UNKNOWN
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.api.exception;
+
+/**
+ * The <code>DatastoreErrorCode</code> enum identifies the cause of a datastore exception in a way callers can act on without inspecting the
+ * exception message or cause chain.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public enum DatastoreErrorCode {
+    /**
+     * The cause of the failure is not known.
+     */
+    UNKNOWN(DatastoreErrorCategory.UNKNOWN, false),
+    /**
+     * The object does not exist.
+     */
+    NOT_FOUND(DatastoreErrorCategory.NOT_FOUND, false),
+    /**
+     * The stored object is no longer at the version the update expected.
+     */
+    VERSION_CONFLICT(DatastoreErrorCategory.CONFLICT, false),
+    /**
+     * The object breaks a unique, foreign key, check or not null constraint.
+     */
+    CONSTRAINT_VIOLATION(DatastoreErrorCategory.INTEGRITY, false),
+    /**
+     * The transaction could not be serialized with a concurrent transaction.
+     */
+    SERIALIZATION_FAILURE(DatastoreErrorCategory.CONCURRENCY, true),
+    /**
+     * The transaction was chosen as the victim of a deadlock.
+     */
+    DEADLOCK(DatastoreErrorCategory.CONCURRENCY, true),
+    /**
+     * The transaction gave up waiting for a lock.
+     */
+    LOCK_TIMEOUT(DatastoreErrorCategory.CONCURRENCY, true),
+    /**
+     * The connection was closed by the data storage implementation before the transaction completed.
+     */
+    CONNECTION_FAILURE(DatastoreErrorCategory.CONNECTION, true),
+    /**
+     * The data storage implementation reported a failure that may not recur, without saying why.
+     */
+    TRANSIENT_FAILURE(DatastoreErrorCategory.UNKNOWN, true);
+
+    /**
+     * The kind of failure.
+     */
+    private final DatastoreErrorCategory category;
+    /**
+     * Whether the operation may succeed when its transaction is run again.
+     */
+    private final boolean transientFailure;
+
+    DatastoreErrorCode(final DatastoreErrorCategory category, final boolean transientFailure) {
+        this.category = category;
+        this.transientFailure = transientFailure;
+    }
+
+    /**
+     * Accessor for the {@link #category} member variable.
+     *
+     * @return Current value of the {@link #category} member variable
+     */
+    public DatastoreErrorCategory getCategory() {
+        return category;
+    }
+
+    /**
+     * Accessor for the {@link #transientFailure} member variable.
+     *
+     * @return Current value of the {@link #transientFailure} member variable
+     */
+    public boolean isTransient() {
+        return transientFailure;
+    }
+}
\ No newline at end of file
@@ -18,6 +18,7 @@
 package com.powerupsoftwareengineering.datastore.common.api.exception;
 
 import java.io.Serial;
+import java.util.Objects;
 
 /**
  * The <code>DatastoreSaveException</code> class represents an exception that occurred when attempting to save an object to a data storage
@@ -32,6 +33,11 @@ public class DatastoreSaveException extends Exception {
     @Serial
     private static final long serialVersionUID = 1L;
 
+    /**
+     * The code identifying the cause of the exception.
+     */
+    private final DatastoreErrorCode errorCode;
+
     /**
      * Base constructor taking an error message.
      *
@@ -39,6 +45,7 @@ public class DatastoreSaveException extends Exception {
      */
     public DatastoreSaveException(final String message) {
         super(message);
+        this.errorCode = DatastoreErrorCode.UNKNOWN;
     }
 
     /**
@@ -49,5 +56,51 @@ public class DatastoreSaveException extends Exception {
      */
     public DatastoreSaveException(final String message, final Throwable cause) {
         super(message, cause);
+        this.errorCode = DatastoreErrorCode.UNKNOWN;
+    }
+
+    /**
+     * Constructor taking an error code. Expected outcomes, such as conflicts or retryable failures on a hot path, can skip capturing the stack
+     * trace, which is the main cost of creating an exception.
+     *
+     * @param message Error message describing what caused the exception.
+     * @param errorCode Value of {@link #errorCode}, must not be <code>null</code>.
+     * @param captureStackTrace Whether the stack trace is captured.
+     */
+    public DatastoreSaveException(final String message, final DatastoreErrorCode errorCode, final boolean captureStackTrace) {
+        this(message, null, errorCode, captureStackTrace);
+    }
+
+    /**
+     * Constructor taking an error code and the exception that caused this exception. Expected outcomes, such as conflicts or retryable failures on
+     * a hot path, can skip capturing the stack trace, which is the main cost of creating an exception.
+     *
+     * @param message Error message describing what caused the exception.
+     * @param cause Exception that caused this exception to be generated.
+     * @param errorCode Value of {@link #errorCode}, must not be <code>null</code>.
+     * @param captureStackTrace Whether the stack trace is captured.
+     */
+    public DatastoreSaveException(final String message, final Throwable cause, final DatastoreErrorCode errorCode,
+            final boolean captureStackTrace) {
+        super(message, cause, true, captureStackTrace);
+        this.errorCode = Objects.requireNonNull(errorCode, "errorCode");
+    }
+
+    /**
+     * Accessor for the {@link #errorCode} member variable.
+     *
+     * @return Current value of the {@link #errorCode} member variable
+     */
+    public DatastoreErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    /**
+     * Checks whether the operation may succeed when its transaction is run again.
+     *
+     * @return <code>true</code> if the error code is transient.
+     */
+    public boolean isTransient() {
+        return errorCode.isTransient();
     }
 }
\ No newline at end of file
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.interceptor;
+
+import com.powerupsoftwareengineering.datastore.common.database.service.LatencyHistogram;
+import com.powerupsoftwareengineering.datastore.common.database.typehandler.MonitoredTypeHandler;
+import java.lang.reflect.Array;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.type.TypeHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The <code>SlowStatementInterceptor</code> class is a MyBatis plugin that times every executor and statement handler call, keeping a
+ * {@link LatencyHistogram} of each per mapped statement. Executor calls slower than the threshold are logged at warn level with the mapped
+ * statement ID, elapsed time, row count and bound parameters. Statement handler batch calls only add the statement to the JDBC batch, which is
+ * executed when the executor flushes, so they are not timed.
+ * <p>
+ * Parameters are rendered by passing them through the type handler of their parameter mapping into a recording statement, so they are logged as
+ * the database received them, and each is truncated to the maximum parameter length. Only the MyBatis type handlers and the type handlers of
+ * this library are known to be free of side effects, with {@link MonitoredTypeHandler} unwrapped to its delegate, so parameters of any other
+ * type handler are rendered with {@link String#valueOf(Object)}. The row count is the size of the list returned by a query,
+ * the count returned by an update, or <code>-1</code> for cursors, batched updates and failed calls. The threshold and maximum parameter length
+ * can be set with the <code>thresholdMillis</code> and <code>maximumParameterLength</code> plugin properties.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+@Intercepts({
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "queryCursor", args = {MappedStatement.class, Object.class, RowBounds.class}),
+        @Signature(type = StatementHandler.class, method = "query", args = {Statement.class, ResultHandler.class}),
+        @Signature(type = StatementHandler.class, method = "queryCursor", args = {Statement.class}),
+        @Signature(type = StatementHandler.class, method = "update", args = {Statement.class})})
+public class SlowStatementInterceptor implements Interceptor {
+    private static final Logger logger = LoggerFactory.getLogger(SlowStatementInterceptor.class);
+
+    /**
+     * The default threshold above which statements are logged.
+     */
+    private static final Duration DEFAULT_THRESHOLD = Duration.ofMillis(500);
+    /**
+     * The default maximum number of characters logged for each parameter.
+     */
+    private static final int DEFAULT_MAXIMUM_PARAMETER_LENGTH = 100;
+    /**
+     * The index of the bound sql argument of the executor query method that takes one.
+     */
+    private static final int BOUND_SQL_ARGUMENT = 5;
+    /**
+     * The packages of the type handlers that are free of side effects, so they can be used to render parameters.
+     */
+    private static final Set<String> RENDERING_PACKAGES = Set.of(TypeHandler.class.getPackageName(), MonitoredTypeHandler.class.getPackageName());
+    /**
+     * The statistics of each mapped statement, keyed by mapped statement ID.
+     */
+    private final ConcurrentMap<String, StatementStatistics> statistics = new ConcurrentHashMap<>();
+    /**
+     * The elapsed time in nanoseconds above which executor calls are logged.
+     */
+    private long thresholdNanos;
+    /**
+     * The maximum number of characters logged for each parameter.
+     */
+    private int maximumParameterLength;
+
+    /**
+     * Default constructor, used when the plugin is configured in the MyBatis XML file. Statements taking longer than 500 milliseconds are logged
+     * with parameters truncated to 100 characters.
+     */
+    public SlowStatementInterceptor() {
+        this(DEFAULT_THRESHOLD, DEFAULT_MAXIMUM_PARAMETER_LENGTH);
+    }
+
+    /**
+     * Base Constructor taking all values as parameters.
+     *
+     * @param threshold The elapsed time above which executor calls are logged.
+     * @param maximumParameterLength Value of {@link #maximumParameterLength}.
+     */
+    public SlowStatementInterceptor(final Duration threshold, final int maximumParameterLength) {
+        this.thresholdNanos = threshold.toNanos();
+        this.maximumParameterLength = maximumParameterLength;
+    }
+
+    @Override
+    public Object intercept(final Invocation invocation) throws Throwable {
+        long start = System.nanoTime();
+        Object result = null;
+        try {
+            result = invocation.proceed();
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            if (invocation.getTarget() instanceof Executor) {
+                recordExecutor(invocation, elapsed, result);
+            } else {
+                recordStatementHandler((StatementHandler) invocation.getTarget(), elapsed);
+            }
+        }
+    }
+
+    @Override
+    public void setProperties(final Properties properties) {
+        String threshold = properties.getProperty("thresholdMillis");
+        if (threshold != null) {
+            thresholdNanos = TimeUnit.MILLISECONDS.toNanos(Long.parseLong(threshold));
+        }
+        String parameterLength = properties.getProperty("maximumParameterLength");
+        if (parameterLength != null) {
+            maximumParameterLength = Integer.parseInt(parameterLength);
+        }
+    }
+
+    /**
+     * Copies the statistics recorded so far.
+     *
+     * @return The statistics of each mapped statement, keyed by mapped statement ID.
+     */
+    public Map<String, StatementStatistics> getStatistics() {
+        Map<String, StatementStatistics> copy = new LinkedHashMap<>();
+        statistics.forEach((statementId, statementStatistics) -> copy.put(statementId, new StatementStatistics(
+                statementStatistics.executorLatency().copy(), statementStatistics.statementHandlerLatency().copy())));
+        return copy;
+    }
+
+    /**
+     * Discards the statistics recorded so far.
+     */
+    public void reset() {
+        statistics.clear();
+    }
+
+    /**
+     * Renders the bound parameters of a statement the way its type handlers pass them to JDBC.
+     *
+     * @param mappedStatement The mapped statement.
+     * @param boundSql The bound sql of the statement.
+     *
+     * @return The parameters as <code>property=value</code> pairs separated by commas.
+     */
+    String renderParameters(final MappedStatement mappedStatement, final BoundSql boundSql) {
+        Configuration configuration = mappedStatement.getConfiguration();
+        Object parameterObject = boundSql.getParameterObject();
+        StringBuilder rendered = new StringBuilder();
+        for (ParameterMapping parameterMapping : boundSql.getParameterMappings()) {
+            String property = parameterMapping.getProperty();
+            Object value;
+            if (boundSql.hasAdditionalParameter(property)) {
+                value = boundSql.getAdditionalParameter(property);
+            } else if (parameterObject == null) {
+                value = null;
+            } else if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameterObject.getClass())) {
+                value = parameterObject;
+            } else {
+                value = configuration.newMetaObject(parameterObject).getValue(property);
+            }
+            if (!rendered.isEmpty()) {
+                rendered.append(", ");
+            }
+            rendered.append(property).append('=').append(truncate(renderValue(parameterMapping, value)));
+        }
+        return rendered.toString();
+    }
+
+    private void recordExecutor(final Invocation invocation, final long elapsed, final Object result) {
+        Object[] args = invocation.getArgs();
+        MappedStatement mappedStatement = (MappedStatement) args[0];
+        statistics(mappedStatement.getId()).executorLatency().record(elapsed);
+        if (elapsed > thresholdNanos && logger.isWarnEnabled()) {
+            BoundSql boundSql = args.length > BOUND_SQL_ARGUMENT ? (BoundSql) args[BOUND_SQL_ARGUMENT] : mappedStatement.getBoundSql(args[1]);
+            logger.warn("Slow statement {} took {} ms, {} rows, parameters [{}]", mappedStatement.getId(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsed), rowCount(result), renderParameters(mappedStatement, boundSql));
+        }
+    }
+
+    private void recordStatementHandler(final StatementHandler statementHandler, final long elapsed) {
+        MetaObject metaObject = SystemMetaObject.forObject(statementHandler);
+        while (metaObject.hasGetter("h.target")) {
+            metaObject = SystemMetaObject.forObject(metaObject.getValue("h.target"));
+        }
+        if (metaObject.hasGetter("delegate")) {
+            metaObject = SystemMetaObject.forObject(metaObject.getValue("delegate"));
+        }
+        if (metaObject.hasGetter("mappedStatement")) {
+            MappedStatement mappedStatement = (MappedStatement) metaObject.getValue("mappedStatement");
+            statistics(mappedStatement.getId()).statementHandlerLatency().record(elapsed);
+        }
+    }
+
+    private StatementStatistics statistics(final String statementId) {
+        StatementStatistics statementStatistics = statistics.get(statementId);
+        if (statementStatistics == null) {
+            statementStatistics = statistics.computeIfAbsent(statementId, key -> new StatementStatistics(new LatencyHistogram(),
+                    new LatencyHistogram()));
+        }
+        return statementStatistics;
+    }
+
+    private static int rowCount(final Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Integer count && count >= 0) {
+            return count;
+        }
+        return -1;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static String renderValue(final ParameterMapping parameterMapping, final Object value) {
+        if (value == null) {
+            return "null";
+        }
+        TypeHandler typeHandler = parameterMapping.getTypeHandler();
+        while (typeHandler instanceof MonitoredTypeHandler<?> monitoredTypeHandler) {
+            typeHandler = monitoredTypeHandler.getDelegate();
+        }
+        if (typeHandler == null || !RENDERING_PACKAGES.contains(typeHandler.getClass().getPackageName())) {
+            return String.valueOf(value);
+        }
+        Object[] bound = new Object[1];
+        PreparedStatement recorder = (PreparedStatement) Proxy.newProxyInstance(SlowStatementInterceptor.class.getClassLoader(),
+                new Class<?>[] {PreparedStatement.class}, (proxy, method, methodArgs) -> {
+                    if (method.getName().startsWith("set") && methodArgs != null && methodArgs.length > 1) {
+                        bound[0] = method.getName().equals("setNull") ? null : methodArgs[1];
+                    }
+                    Class<?> returnType = method.getReturnType();
+                    return returnType.isPrimitive() && returnType != void.class ? Array.get(Array.newInstance(returnType, 1), 0) : null;
+                });
+        try {
+            typeHandler.setParameter(recorder, 1, value, parameterMapping.getJdbcType());
+        } catch (SQLException | RuntimeException e) {
+            return String.valueOf(value);
+        }
+        return String.valueOf(bound[0]);
+    }
+
+    private String truncate(final String value) {
+        return value.length() <= maximumParameterLength ? value : value.substring(0, maximumParameterLength) + "...";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.interceptor;
+
+/**
+ * The <code>StatementBudgetEnforcement</code> enum defines what {@link StatementBudgetInterceptor} does when a unit of work runs more statements
+ * than its budget allows.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public enum StatementBudgetEnforcement {
+    /**
+     * Throw a {@link StatementBudgetExceededException} instead of running the statement, intended for tests.
+     */
+    FAIL,
+    /**
+     * Log a warning once per unit of work and run the statement, intended for production.
+     */
+    WARN
+}
\ No newline at end of file
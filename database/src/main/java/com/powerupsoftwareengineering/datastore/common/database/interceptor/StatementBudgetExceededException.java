@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.interceptor;
+
+import java.io.Serial;
+import org.apache.ibatis.exceptions.PersistenceException;
+
+/**
+ * The <code>StatementBudgetExceededException</code> class represents an exception that occurred when a unit of work tried to run more statements
+ * than its budget allows while the budget is enforced with {@link StatementBudgetEnforcement#FAIL}.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class StatementBudgetExceededException extends PersistenceException {
+    /**
+     * Serial Version ID implements the {@link java.io.Serializable} contract.
+     */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Base constructor taking an error message.
+     *
+     * @param message Error message describing what caused the exception.
+     */
+    public StatementBudgetExceededException(final String message) {
+        super(message);
+    }
+}
\ No newline at end of file
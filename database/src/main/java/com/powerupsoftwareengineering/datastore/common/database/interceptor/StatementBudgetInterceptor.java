@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.interceptor;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.WeakHashMap;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The <code>StatementBudgetInterceptor</code> class is a MyBatis plugin that counts the statements run by each unit of work and flags N+1 query
+ * patterns, such as calling the retrieve function of a database operation group in a loop.
+ * <p>
+ * A unit of work is a {@link StatementBudgetScope} opened on the current thread with {@link #begin(String)}, or, when no scope is open, the sql
+ * session running the statement. Scopes can be nested, and a statement counts against every scope open on the thread. A mapped statement run with
+ * the repeat threshold of different parameter objects in one unit of work is logged at warn level once as a possible N+1 query. When a unit of
+ * work has a maximum number of statements, running more fails with a {@link StatementBudgetExceededException} or logs a warning once, depending on
+ * the {@link StatementBudgetEnforcement}.
+ * <p>
+ * The default maximum number of statements, repeat threshold and enforcement can be set with the <code>maximumStatements</code>,
+ * <code>repeatThreshold</code> and <code>enforcement</code> plugin properties, and a scope can be given its own maximum with
+ * {@link #begin(String, int)}. A maximum or threshold of zero disables the check.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+@Intercepts({
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "queryCursor", args = {MappedStatement.class, Object.class, RowBounds.class})})
+public class StatementBudgetInterceptor implements Interceptor {
+    private static final Logger logger = LoggerFactory.getLogger(StatementBudgetInterceptor.class);
+
+    /**
+     * The default number of different parameter objects after which a mapped statement is flagged.
+     */
+    private static final int DEFAULT_REPEAT_THRESHOLD = 10;
+    /**
+     * The scope open on each thread.
+     */
+    private final ThreadLocal<StatementBudgetScope> currentScope = new ThreadLocal<>();
+    /**
+     * The scopes of sql sessions running statements outside an explicit scope, keyed by the executor of the session.
+     */
+    private final Map<Executor, StatementBudgetScope> sessionScopes = Collections.synchronizedMap(new WeakHashMap<>());
+    /**
+     * The maximum number of statements a unit of work may run unless its scope sets its own, zero for no maximum.
+     */
+    private int maximumStatements;
+    /**
+     * The number of different parameter objects after which a mapped statement is flagged, zero to disable N+1 detection.
+     */
+    private int repeatThreshold;
+    /**
+     * What happens when a unit of work exceeds {@link #maximumStatements}.
+     */
+    private StatementBudgetEnforcement enforcement;
+
+    /**
+     * Default constructor, used when the plugin is configured in the MyBatis XML file. Mapped statements run with 10 different parameter objects
+     * are flagged and there is no maximum number of statements.
+     */
+    public StatementBudgetInterceptor() {
+        this(0, DEFAULT_REPEAT_THRESHOLD, StatementBudgetEnforcement.WARN);
+    }
+
+    /**
+     * Base Constructor taking all values as parameters.
+     *
+     * @param maximumStatements Value of {@link #maximumStatements}.
+     * @param repeatThreshold Value of {@link #repeatThreshold}.
+     * @param enforcement Value of {@link #enforcement}.
+     */
+    public StatementBudgetInterceptor(final int maximumStatements, final int repeatThreshold, final StatementBudgetEnforcement enforcement) {
+        this.maximumStatements = maximumStatements;
+        this.repeatThreshold = repeatThreshold;
+        this.enforcement = enforcement;
+    }
+
+    /**
+     * Opens a scope for a logical operation on the current thread with the default maximum number of statements.
+     *
+     * @param name The name of the logical operation, used in log messages.
+     *
+     * @return The scope, to be closed when the logical operation ends.
+     */
+    public StatementBudgetScope begin(final String name) {
+        return begin(name, maximumStatements);
+    }
+
+    /**
+     * Opens a scope for a logical operation on the current thread. Statements run by the thread are counted against the scope until it is closed,
+     * whichever sql session runs them. Scopes can be nested, in which case statements also count against every enclosing scope.
+     *
+     * @param name The name of the logical operation, used in log messages.
+     * @param maximumStatements The maximum number of statements the scope may run, zero for no maximum.
+     *
+     * @return The scope, to be closed when the logical operation ends.
+     */
+    public StatementBudgetScope begin(final String name, final int maximumStatements) {
+        StatementBudgetScope scope = new StatementBudgetScope(name, maximumStatements, currentScope.get(), this);
+        currentScope.set(scope);
+        return scope;
+    }
+
+    @Override
+    public Object intercept(final Invocation invocation) throws Throwable {
+        MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+        String statementId = mappedStatement.getId();
+        StatementBudgetScope scope = currentScope.get();
+        if (scope == null) {
+            scope = sessionScopes.computeIfAbsent((Executor) invocation.getTarget(),
+                    executor -> new StatementBudgetScope("sql session", maximumStatements, null, null));
+        }
+        int parameterHash = Objects.hashCode(invocation.getArgs()[1]);
+        for (StatementBudgetScope counted = scope; counted != null; counted = counted.getPrevious()) {
+            if (counted.record(statementId, parameterHash, repeatThreshold)) {
+                logger.warn("Statement {} was run {} times with different parameters in {}, which may be an N+1 query", statementId,
+                        counted.getStatementCount(statementId), counted.getName());
+            }
+        }
+        for (StatementBudgetScope counted = scope; counted != null; counted = counted.getPrevious()) {
+            checkBudget(counted, statementId);
+        }
+        return invocation.proceed();
+    }
+
+    @Override
+    public void setProperties(final Properties properties) {
+        String maximum = properties.getProperty("maximumStatements");
+        if (maximum != null) {
+            maximumStatements = Integer.parseInt(maximum);
+        }
+        String threshold = properties.getProperty("repeatThreshold");
+        if (threshold != null) {
+            repeatThreshold = Integer.parseInt(threshold);
+        }
+        String enforcementName = properties.getProperty("enforcement");
+        if (enforcementName != null) {
+            enforcement = StatementBudgetEnforcement.valueOf(enforcementName);
+        }
+    }
+
+    /**
+     * Ends a scope opened by {@link #begin(String, int)}, making the scope it was opened in current again. Scopes opened inside it that are still
+     * open are ended with it, and a scope that has already ended is ignored.
+     *
+     * @param scope The scope to end.
+     */
+    void end(final StatementBudgetScope scope) {
+        for (StatementBudgetScope open = currentScope.get(); open != null; open = open.getPrevious()) {
+            if (open == scope) {
+                if (scope.getPrevious() == null) {
+                    currentScope.remove();
+                } else {
+                    currentScope.set(scope.getPrevious());
+                }
+                return;
+            }
+        }
+    }
+
+    private void checkBudget(final StatementBudgetScope scope, final String statementId) {
+        int budget = scope.getMaximumStatements();
+        if (budget <= 0 || scope.getStatementCount() <= budget) {
+            return;
+        }
+        if (enforcement == StatementBudgetEnforcement.FAIL) {
+            throw new StatementBudgetExceededException("Statement " + statementId + " exceeds the budget of " + budget + " statements in "
+                    + scope.getName());
+        }
+        if (scope.warnBudget()) {
+            logger.warn("Statement {} exceeds the budget of {} statements in {}", statementId, budget, scope.getName());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.interceptor;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The <code>StatementBudgetScope</code> class counts the statements run by one unit of work for {@link StatementBudgetInterceptor}. A scope is
+ * either opened explicitly around a logical operation with {@link StatementBudgetInterceptor#begin(String, int)} and closed when the operation
+ * ends, or created implicitly for each sql session that runs statements outside an explicit scope. The counts of a scope include the statements
+ * run by the scopes nested in it.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class StatementBudgetScope implements AutoCloseable {
+    /**
+     * The name of the unit of work, used in log messages.
+     */
+    private final String name;
+    /**
+     * The maximum number of statements the unit of work may run, zero for no maximum.
+     */
+    private final int maximumStatements;
+    /**
+     * The scope that was current on the thread when this scope was opened, restored when it closes.
+     */
+    private final StatementBudgetScope previous;
+    /**
+     * The interceptor that opened the scope, or <code>null</code> for the scope of a sql session.
+     */
+    private final StatementBudgetInterceptor interceptor;
+    /**
+     * The number of times each mapped statement was run, keyed by mapped statement ID.
+     */
+    private final Map<String, Integer> statementCounts = new HashMap<>();
+    /**
+     * The distinct parameter hashes each mapped statement was run with, holding at most the repeat threshold of hashes.
+     */
+    private final Map<String, Set<Integer>> parameterHashes = new HashMap<>();
+    /**
+     * The mapped statements flagged as run repeatedly with different parameters, with the number of times each was run when flagged.
+     */
+    private final Map<String, Integer> repeatedStatements = new LinkedHashMap<>();
+    /**
+     * The number of statements run.
+     */
+    private int statementCount;
+    /**
+     * Whether exceeding the budget has been logged.
+     */
+    private boolean budgetWarned;
+
+    /**
+     * Base Constructor taking all values as parameters.
+     *
+     * @param name Value of {@link #name}.
+     * @param maximumStatements Value of {@link #maximumStatements}.
+     * @param previous Value of {@link #previous}.
+     * @param interceptor Value of {@link #interceptor}.
+     */
+    StatementBudgetScope(final String name, final int maximumStatements, final StatementBudgetScope previous,
+            final StatementBudgetInterceptor interceptor) {
+        this.name = name;
+        this.maximumStatements = maximumStatements;
+        this.previous = previous;
+        this.interceptor = interceptor;
+    }
+
+    /**
+     * Accessor for the {@link #name} member variable.
+     *
+     * @return Current value of the {@link #name} member variable
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Accessor for the {@link #maximumStatements} member variable.
+     *
+     * @return Current value of the {@link #maximumStatements} member variable
+     */
+    public int getMaximumStatements() {
+        return maximumStatements;
+    }
+
+    /**
+     * Accessor for the {@link #statementCount} member variable.
+     *
+     * @return Current value of the {@link #statementCount} member variable
+     */
+    public synchronized int getStatementCount() {
+        return statementCount;
+    }
+
+    /**
+     * Counts the runs of a mapped statement.
+     *
+     * @param statementId The ID of the mapped statement.
+     *
+     * @return The number of times the mapped statement was run in this scope.
+     */
+    public synchronized int getStatementCount(final String statementId) {
+        return statementCounts.getOrDefault(statementId, 0);
+    }
+
+    /**
+     * Lists the mapped statements flagged as possible N+1 queries.
+     *
+     * @return The number of times each flagged mapped statement had run when it was flagged, keyed by mapped statement ID.
+     */
+    public synchronized Map<String, Integer> getRepeatedStatements() {
+        return new LinkedHashMap<>(repeatedStatements);
+    }
+
+    /**
+     * Closes the scope, making the scope that was current when it was opened current again. Scopes opened inside this one that are still open are
+     * closed with it, and closing a scope again has no effect.
+     */
+    @Override
+    public void close() {
+        if (interceptor != null) {
+            interceptor.end(this);
+        }
+    }
+
+    /**
+     * Counts a statement.
+     *
+     * @param statementId The ID of the mapped statement.
+     * @param parameterHash The hash code of the parameter object of the statement.
+     * @param repeatThreshold The number of distinct parameters after which a mapped statement is flagged.
+     *
+     * @return <code>true</code> if the mapped statement was flagged by this call.
+     */
+    synchronized boolean record(final String statementId, final int parameterHash, final int repeatThreshold) {
+        statementCount++;
+        int count = statementCounts.merge(statementId, 1, Integer::sum);
+        if (repeatThreshold <= 0 || repeatedStatements.containsKey(statementId)) {
+            return false;
+        }
+        Set<Integer> hashes = parameterHashes.computeIfAbsent(statementId, key -> new HashSet<>());
+        hashes.add(parameterHash);
+        if (hashes.size() < repeatThreshold) {
+            return false;
+        }
+        repeatedStatements.put(statementId, count);
+        parameterHashes.remove(statementId);
+        return true;
+    }
+
+    /**
+     * Marks the budget as exceeded.
+     *
+     * @return <code>true</code> the first time it is called.
+     */
+    synchronized boolean warnBudget() {
+        boolean first = !budgetWarned;
+        budgetWarned = true;
+        return first;
+    }
+
+    /**
+     * Accessor for the {@link #previous} member variable.
+     *
+     * @return Current value of the {@link #previous} member variable
+     */
+    StatementBudgetScope getPrevious() {
+        return previous;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.interceptor;
+
+import com.powerupsoftwareengineering.datastore.common.database.service.LatencyHistogram;
+
+/**
+ * The <code>StatementStatistics</code> class holds the latencies recorded by {@link SlowStatementInterceptor} for one mapped statement.
+ *
+ * @param executorLatency The latencies of executor calls, covering the whole statement including result mapping and local cache lookups.
+ * @param statementHandlerLatency The latencies of statement handler calls, covering the JDBC execution and result mapping.
+ *
+ * @author Chris Picard
+ */
+public record StatementStatistics(
+        LatencyHistogram executorLatency,
+        LatencyHistogram statementHandlerLatency) {
+}
\ No newline at end of file
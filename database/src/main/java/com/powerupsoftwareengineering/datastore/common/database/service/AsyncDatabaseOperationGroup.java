@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreDeleteException;
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreRetrieveException;
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreSaveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+
+/**
+ * The <code>AsyncDatabaseOperationGroup</code> class runs the functions of a {@link DatabaseOperationGroup} asynchronously. Each call runs on its own
+ * virtual thread with its own sql session, which is committed when the function completes and closed afterwards. The number of calls holding a sql
+ * session at the same time is capped, so the cap should be sized to the connection pool; calls above the cap wait on their virtual thread.
+ * <p>
+ * Failures complete the returned future exceptionally with the {@link DatastoreSaveException}, {@link DatastoreRetrieveException} or
+ * {@link DatastoreDeleteException} raised by the function, or with the runtime exception or error raised by Mybatis, so a returned future is
+ * always completed.
+ *
+ * @param <T> The type of model object the database operations are for.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class AsyncDatabaseOperationGroup<T extends ModelObject> implements AutoCloseable {
+    /**
+     * The database operation group whose functions are run asynchronously.
+     */
+    private final DatabaseOperationGroup<T> group;
+    /**
+     * The factory used to open a sql session for each call.
+     */
+    private final SqlSessionFactory sqlSessionFactory;
+    /**
+     * The executor the calls are run on.
+     */
+    private final ExecutorService executorService;
+    /**
+     * The permits limiting the number of calls holding a sql session at the same time.
+     */
+    private final Semaphore sessionPermits;
+
+    /**
+     * Constructor running each call on a new virtual thread.
+     *
+     * @param group Value of {@link #group}.
+     * @param sqlSessionFactory Value of {@link #sqlSessionFactory}.
+     * @param maximumConcurrency The maximum number of calls holding a sql session at the same time.
+     */
+    public AsyncDatabaseOperationGroup(final DatabaseOperationGroup<T> group, final SqlSessionFactory sqlSessionFactory,
+            final int maximumConcurrency) {
+        this(group, sqlSessionFactory, maximumConcurrency, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Base Constructor taking all values as parameters. The executor is shut down when this group is closed.
+     *
+     * @param group Value of {@link #group}.
+     * @param sqlSessionFactory Value of {@link #sqlSessionFactory}.
+     * @param maximumConcurrency The maximum number of calls holding a sql session at the same time, must be at least one.
+     * @param executorService Value of {@link #executorService}.
+     */
+    public AsyncDatabaseOperationGroup(final DatabaseOperationGroup<T> group, final SqlSessionFactory sqlSessionFactory,
+            final int maximumConcurrency, final ExecutorService executorService) {
+        if (maximumConcurrency < 1) {
+            throw new IllegalArgumentException("Maximum concurrency must be at least one but was " + maximumConcurrency);
+        }
+        this.group = group;
+        this.sqlSessionFactory = sqlSessionFactory;
+        this.executorService = executorService;
+        this.sessionPermits = new Semaphore(maximumConcurrency);
+    }
+
+    /**
+     * Stores a new model object using the store function of the group.
+     *
+     * @param modelObject The model object to be stored.
+     *
+     * @return Future completed once the model object is stored and committed.
+     */
+    public CompletableFuture<Void> store(final T modelObject) {
+        return submit(sqlSession -> {
+            group.getStoreFunction().apply(modelObject, sqlSession);
+            return null;
+        });
+    }
+
+    /**
+     * Updates an existing model object using the update function of the group.
+     *
+     * @param updated The updated model object.
+     * @param existing The existing model object.
+     *
+     * @return Future completed once the model object is updated and committed.
+     */
+    public CompletableFuture<Void> update(final T updated, final T existing) {
+        return submit(sqlSession -> {
+            group.getUpdateFunction().apply(updated, existing, sqlSession);
+            return null;
+        });
+    }
+
+    /**
+     * Cascades an update to the elements of a model object using the cascade update function of the group.
+     *
+     * @param updated The updated model object.
+     * @param existing The existing model object.
+     *
+     * @return Future completed with the updated model object with cascaded changes added, once committed.
+     */
+    public CompletableFuture<T> cascadeUpdate(final T updated, final T existing) {
+        return submit(sqlSession -> group.getCascadeUpdateFunction().apply(updated, existing, sqlSession));
+    }
+
+    /**
+     * Deletes a model object using the delete function of the group.
+     *
+     * @param modelObject The model object to be deleted.
+     *
+     * @return Future completed once the model object is deleted and committed.
+     */
+    public CompletableFuture<Void> delete(final T modelObject) {
+        return submit(sqlSession -> {
+            group.getDeleteFunction().apply(modelObject, sqlSession);
+            return null;
+        });
+    }
+
+    /**
+     * Retrieves a model object using the retrieve function of the group.
+     *
+     * @param id The ID of the model object to retrieve.
+     *
+     * @return Future completed with the model object, or null if it was not found.
+     */
+    public CompletableFuture<T> retrieve(final UUID id) {
+        return submit(sqlSession -> group.getRetrieveFunction().apply(id, sqlSession));
+    }
+
+    /**
+     * Accessor for the {@link #group} member variable.
+     *
+     * @return Current value of the {@link #group} member variable
+     */
+    public DatabaseOperationGroup<T> getGroup() {
+        return group;
+    }
+
+    /**
+     * Shuts down the executor, waiting for calls that were already submitted to complete.
+     */
+    @Override
+    public void close() {
+        executorService.close();
+    }
+
+    private <R> CompletableFuture<R> submit(final SessionOperation<R> operation) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        executorService.execute(() -> {
+            try {
+                sessionPermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.completeExceptionally(e);
+                return;
+            }
+            try {
+                future.complete(runInSession(operation));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    private <R> R runInSession(final SessionOperation<R> operation) throws DatastoreSaveException, DatastoreRetrieveException,
+            DatastoreDeleteException {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            R result = operation.apply(sqlSession);
+            sqlSession.commit();
+            return result;
+        } finally {
+            sessionPermits.release();
+        }
+    }
+
+    /**
+     * The <code>SessionOperation</code> interface is a call to one of the functions of the group using a given sql session.
+     *
+     * @param <R> The type of result of the call.
+     */
+    @FunctionalInterface
+    private interface SessionOperation<R> {
+        R apply(SqlSession sqlSession) throws DatastoreSaveException, DatastoreRetrieveException, DatastoreDeleteException;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.executor.BatchExecutorException;
+import org.apache.ibatis.executor.BatchResult;
+
+/**
+ * The <code>BatchResultUtil</code> class maps the results of flushing a Mybatis batch back to the model objects that were queued.
+ *
+ * @author Chris Picard
+ */
+final class BatchResultUtil {
+
+    private BatchResultUtil() {
+    }
+
+    /**
+     * Finds the IDs of the model objects that caused a batch to fail. Statements are executed in the order they were queued, so the parameter
+     * objects of the statement batches that executed successfully belong to the first model objects of the chunk, each of which queued the same
+     * number of statements. Those model objects are excluded; a model object only some of whose statements executed is reported as failed. When
+     * each model object queued a single statement and the driver reports a result for every remaining row, only the rows it marked as failed are
+     * reported, otherwise every remaining model object is reported as failed.
+     *
+     * @param <T> The type of model object that was queued.
+     * @param chunk The model objects that were part of the failed flush, in the order their statements were queued.
+     * @param exception The exception raised by the flush.
+     * @param idFunction Function that returns the ID of a model object.
+     * @param statementsPerModelObject The number of statements queued for each model object.
+     *
+     * @return The IDs of the model objects that failed.
+     */
+    static <T> List<UUID> findFailedIds(final List<T> chunk, final PersistenceException exception, final Function<T, UUID> idFunction,
+            final int statementsPerModelObject) {
+        int executedStatements = 0;
+        int[] updateCounts = new int[0];
+        if (exception.getCause() instanceof BatchExecutorException batchExecutorException) {
+            for (BatchResult batchResult : batchExecutorException.getSuccessfulBatchResults()) {
+                executedStatements += batchResult.getParameterObjects().size();
+            }
+            updateCounts = batchExecutorException.getBatchUpdateException().getUpdateCounts();
+        }
+        List<T> remaining = chunk.subList(Math.min(executedStatements / statementsPerModelObject, chunk.size()), chunk.size());
+        boolean perRowResults = statementsPerModelObject == 1 && updateCounts.length == remaining.size();
+        List<UUID> failedIds = new ArrayList<>(remaining.size());
+        for (int index = 0; index < remaining.size(); index++) {
+            if (!perRowResults || updateCounts[index] == Statement.EXECUTE_FAILED) {
+                failedIds.add(idFunction.apply(remaining.get(index)));
+            }
+        }
+        return failedIds;
+    }
+
+    /**
+     * Collects the update counts reported for the queued statements, in the order the statements were queued.
+     *
+     * @param batchResults The results returned by flushing the batch.
+     *
+     * @return The update count of each queued statement, or <code>null</code> if a statement batch did not report a count for every statement.
+     */
+    static int[] findUpdateCounts(final List<BatchResult> batchResults) {
+        int statementCount = 0;
+        for (BatchResult batchResult : batchResults) {
+            int[] counts = batchResult.getUpdateCounts();
+            if (counts == null || counts.length != batchResult.getParameterObjects().size()) {
+                return null;
+            }
+            statementCount += counts.length;
+        }
+        int[] updateCounts = new int[statementCount];
+        int position = 0;
+        for (BatchResult batchResult : batchResults) {
+            int[] counts = batchResult.getUpdateCounts();
+            System.arraycopy(counts, 0, updateCounts, position, counts.length);
+            position += counts.length;
+        }
+        return updateCounts;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreDeleteException;
+import java.util.Collection;
+import java.util.UUID;
+import org.apache.ibatis.session.SqlSession;
+
+/**
+ * The <code>BulkDeleteFunction</code> class defines a lambda expression function for a database delete operation on a collection of IDs.
+ *
+ * @param <T> The sql session to use to perform the delete operation
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+@FunctionalInterface
+public interface BulkDeleteFunction<T extends SqlSession> {
+
+    /**
+     * Apply invokes the function this lambda function represents.
+     *
+     * @param one The IDs of the model objects to be deleted
+     * @param two The sql session to use to perform the delete operation
+     *
+     * @return The number of rows deleted
+     *
+     * @throws DatastoreDeleteException Unable to delete the model objects
+     */
+    @SuppressWarnings("RedundantThrows")
+    int apply(Collection<UUID> one, T two) throws DatastoreDeleteException;
+}
\ No newline at end of file
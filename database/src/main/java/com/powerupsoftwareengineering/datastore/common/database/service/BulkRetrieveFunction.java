@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreRetrieveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.util.Collection;
+import java.util.UUID;
+import org.apache.ibatis.session.SqlSession;
+
+/**
+ * The <code>BulkRetrieveFunction</code> class defines a lambda expression function for a database retrieve operation on a collection of IDs.
+ *
+ * @param <OneT> The type of model object being retrieved
+ * @param <TwoT> The sql session to use to perform the retrieve operation
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+@FunctionalInterface
+public interface BulkRetrieveFunction<OneT extends ModelObject, TwoT extends SqlSession> {
+
+    /**
+     * Apply invokes the function this lambda function represents.
+     *
+     * @param one The IDs of the model objects to be retrieved
+     * @param two The sql session to use to perform the retrieve operation
+     *
+     * @return The model objects that were found and the IDs that were not
+     *
+     * @throws DatastoreRetrieveException Unable to retrieve the model objects
+     */
+    @SuppressWarnings("RedundantThrows")
+    BulkRetrieveResult<OneT> apply(Collection<UUID> one, TwoT two) throws DatastoreRetrieveException;
+}
\ No newline at end of file
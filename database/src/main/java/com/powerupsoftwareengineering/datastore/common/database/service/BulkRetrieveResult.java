@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The <code>BulkRetrieveResult</code> class is the result of retrieving a collection of model objects by their IDs.
+ *
+ * @param <T> The type of model object retrieved.
+ * @param modelObjects The model objects that were found, keyed by ID, in the order the IDs were requested.
+ * @param missingIds The requested IDs that did not match a model object.
+ *
+ * @author Chris Picard
+ */
+public record BulkRetrieveResult<T extends ModelObject>(
+        Map<UUID, T> modelObjects,
+        Set<UUID> missingIds) {
+}
\ No newline at end of file
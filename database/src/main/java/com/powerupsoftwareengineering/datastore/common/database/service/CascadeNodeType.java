@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * The <code>CascadeNodeType</code> class describes how the model objects of one class are written and which child model objects they hold, so a
+ * {@link LevelBatchCascadeExecutor} can walk and write a model graph.
+ *
+ * @param <T> The type of model object described
+ * @param modelClass The class of model object described, also matching its subclasses.
+ * @param group The database operation group used to write the model objects.
+ * @param idFunction Function that returns the ID of a model object.
+ * @param childrenFunction Function that returns the child model objects held by a model object, of any registered class.
+ *
+ * @author Chris Picard
+ */
+public record CascadeNodeType<T extends ModelObject>(
+        Class<T> modelClass,
+        DatabaseOperationGroup<T> group,
+        Function<T, UUID> idFunction,
+        Function<T, Collection<? extends ModelObject>> childrenFunction) {
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.util.Set;
+
+/**
+ * The <code>ChangedFieldParameterGroup</code> class is the parameter passed to an update mapper statement that only sets the columns of changed
+ * fields. The mapper can test <code>changedFields.contains('name')</code> inside a <code>set</code> element to build the minimal SET clause.
+ *
+ * @param <T> The type of model object the group is for
+ * @param modelObject The updated model object.
+ * @param changedFields The names of the fields that differ from the existing model object.
+ *
+ * @author Chris Picard
+ */
+public record ChangedFieldParameterGroup<T extends ModelObject>(
+        T modelObject,
+        Set<String> changedFields) {
+}
\ No newline at end of file
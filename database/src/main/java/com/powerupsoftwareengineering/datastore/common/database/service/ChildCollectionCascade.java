@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreDeleteException;
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreSaveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import org.apache.ibatis.session.SqlSession;
+
+/**
+ * The <code>ChildCollectionCascade</code> class cascades the update of a model object to a collection of its children, for use inside a
+ * {@link CascadeUpdateFunction}. Children are matched by ID using {@link ChildDiff}, then removed children are deleted, added children stored and
+ * changed children updated using the database operation group of the child. Unchanged children are not written.
+ * <p>
+ * The deletes, stores and updates are issued as one sequence in {@link LockOrderUtil#ID_ORDER order of child ID}, so concurrent cascades over
+ * overlapping children take their row locks in the same order instead of deadlocking, whatever kind of write each of them makes. Consecutive removed
+ * children are deleted with the bulk delete function of the child group when it has one, and consecutive added children are stored with its batch
+ * store function when it has one, otherwise each child is written on its own.
+ *
+ * @param <C> The type of child model object.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class ChildCollectionCascade<C extends ModelObject> {
+    /**
+     * The database operation group used to write the children.
+     */
+    private final DatabaseOperationGroup<C> childGroup;
+    /**
+     * Function that returns the ID of a child.
+     */
+    private final Function<C, UUID> idFunction;
+
+    /**
+     * Base Constructor taking all values as parameters.
+     *
+     * @param childGroup Value of {@link #childGroup}.
+     * @param idFunction Value of {@link #idFunction}.
+     */
+    public ChildCollectionCascade(final DatabaseOperationGroup<C> childGroup, final Function<C, UUID> idFunction) {
+        this.childGroup = childGroup;
+        this.idFunction = idFunction;
+    }
+
+    /**
+     * Writes the differences between the updated and existing children.
+     *
+     * @param updated The updated children.
+     * @param existing The existing children.
+     * @param sqlSession The sql session to use to write the children.
+     *
+     * @return The classified children.
+     *
+     * @throws DatastoreSaveException Unable to write the children.
+     */
+    public ChildDiff<C> cascade(final Collection<C> updated, final Collection<C> existing, final SqlSession sqlSession)
+            throws DatastoreSaveException {
+        ChildDiff<C> diff = ChildDiff.of(updated, existing, idFunction);
+        List<ChildWrite<C>> writes = new ArrayList<>(diff.removed().size() + diff.added().size() + diff.changed().size());
+        for (C child : diff.removed()) {
+            writes.add(new ChildWrite<>(idFunction.apply(child), null, child));
+        }
+        for (C child : diff.added()) {
+            writes.add(new ChildWrite<>(idFunction.apply(child), child, null));
+        }
+        for (ChildUpdate<C> childUpdate : diff.changed()) {
+            writes.add(new ChildWrite<>(idFunction.apply(childUpdate.updated()), childUpdate.updated(), childUpdate.existing()));
+        }
+        writes.sort(Comparator.comparing(ChildWrite::id, LockOrderUtil.ID_ORDER));
+        List<C> removed = new ArrayList<>();
+        List<C> added = new ArrayList<>();
+        for (ChildWrite<C> write : writes) {
+            if (write.updated() == null) {
+                store(added, sqlSession);
+                removed.add(write.existing());
+            } else if (write.existing() == null) {
+                delete(removed, sqlSession);
+                added.add(write.updated());
+            } else {
+                delete(removed, sqlSession);
+                store(added, sqlSession);
+                childGroup.getUpdateFunction().apply(write.updated(), write.existing(), sqlSession);
+            }
+        }
+        delete(removed, sqlSession);
+        store(added, sqlSession);
+        return diff;
+    }
+
+    /**
+     * Deletes a run of consecutive removed children and empties the run.
+     *
+     * @param removed The removed children, in order of ID.
+     * @param sqlSession The sql session to use to delete the children.
+     *
+     * @throws DatastoreSaveException Unable to delete the children.
+     */
+    private void delete(final List<C> removed, final SqlSession sqlSession) throws DatastoreSaveException {
+        if (removed.isEmpty()) {
+            return;
+        }
+        try {
+            BulkDeleteFunction<SqlSession> bulkDeleteFunction = childGroup.getBulkDeleteFunction();
+            if (bulkDeleteFunction != null) {
+                List<UUID> ids = new ArrayList<>(removed.size());
+                for (C child : removed) {
+                    ids.add(idFunction.apply(child));
+                }
+                bulkDeleteFunction.apply(ids, sqlSession);
+            } else {
+                for (C child : removed) {
+                    childGroup.getDeleteFunction().apply(child, sqlSession);
+                }
+            }
+        } catch (DatastoreDeleteException e) {
+            throw new DatastoreSaveException("Unable to delete " + removed.size() + " removed children", e);
+        }
+        removed.clear();
+    }
+
+    /**
+     * Stores a run of consecutive added children and empties the run.
+     *
+     * @param added The added children, in order of ID.
+     * @param sqlSession The sql session to use to store the children.
+     *
+     * @throws DatastoreSaveException Unable to store the children.
+     */
+    private void store(final List<C> added, final SqlSession sqlSession) throws DatastoreSaveException {
+        if (added.isEmpty()) {
+            return;
+        }
+        BatchStoreFunction<C, SqlSession> batchStoreFunction = childGroup.getBatchStoreFunction();
+        if (batchStoreFunction != null) {
+            batchStoreFunction.apply(List.copyOf(added), sqlSession);
+        } else {
+            for (C child : added) {
+                childGroup.getStoreFunction().apply(child, sqlSession);
+            }
+        }
+        added.clear();
+    }
+
+    /**
+     * A write of one child, with the updated version <code>null</code> for a removed child and the existing version <code>null</code> for an added
+     * child.
+     *
+     * @param <C> The type of child model object.
+     * @param id The ID of the child.
+     * @param updated The updated version of the child, or <code>null</code> when it was removed.
+     * @param existing The existing version of the child, or <code>null</code> when it was added.
+     */
+    private record ChildWrite<C>(
+            UUID id,
+            C updated,
+            C existing) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * The <code>ChildDiff</code> class is the result of matching the updated and existing children of a model object by ID. Matched children are
+ * compared by content with {@link StructuralHashUtil#isUnchanged(Object, Object)} rather than <code>equals</code>, since model objects commonly
+ * implement <code>equals</code> on their ID alone.
+ *
+ * @param <C> The type of child model object
+ * @param added The updated children with no existing child of the same ID.
+ * @param removed The existing children with no updated child of the same ID.
+ * @param changed The children whose updated and existing versions differ in content.
+ * @param unchanged The children whose updated and existing versions have the same content.
+ *
+ * @author Chris Picard
+ */
+public record ChildDiff<C>(
+        List<C> added,
+        List<C> removed,
+        List<ChildUpdate<C>> changed,
+        List<ChildUpdate<C>> unchanged) {
+
+    /**
+     * Matches updated children to existing children by ID in time proportional to the number of children, and classifies each of them.
+     *
+     * @param <C> The type of child model object.
+     * @param updated The updated children.
+     * @param existing The existing children.
+     * @param idFunction Function that returns the ID of a child.
+     *
+     * @return The classified children, each list in the order of the collection it was taken from.
+     */
+    public static <C> ChildDiff<C> of(final Collection<C> updated, final Collection<C> existing, final Function<C, UUID> idFunction) {
+        Map<UUID, C> existingById = new HashMap<>(existing.size() * 2);
+        for (C child : existing) {
+            existingById.put(idFunction.apply(child), child);
+        }
+        List<C> added = new ArrayList<>();
+        List<ChildUpdate<C>> changed = new ArrayList<>();
+        List<ChildUpdate<C>> unchanged = new ArrayList<>();
+        for (C child : updated) {
+            C existingChild = existingById.remove(idFunction.apply(child));
+            if (existingChild == null) {
+                added.add(child);
+            } else if (StructuralHashUtil.isUnchanged(child, existingChild)) {
+                unchanged.add(new ChildUpdate<>(child, existingChild));
+            } else {
+                changed.add(new ChildUpdate<>(child, existingChild));
+            }
+        }
+        List<C> removed = new ArrayList<>(existingById.size());
+        for (C child : existing) {
+            if (existingById.containsKey(idFunction.apply(child))) {
+                removed.add(child);
+            }
+        }
+        return new ChildDiff<>(added, removed, changed, unchanged);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+/**
+ * The <code>ChildUpdate</code> class pairs the updated and existing versions of a child model object matched by ID.
+ *
+ * @param <C> The type of child model object
+ * @param updated The updated version of the child.
+ * @param existing The existing version of the child.
+ *
+ * @author Chris Picard
+ */
+public record ChildUpdate<C>(
+        C updated,
+        C existing) {
+}
\ No newline at end of file
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreBatchSaveException;
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreSaveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.SqlSession;
+
+/**
+ * The <code>ChunkedBatchStoreFunction</code> class is a {@link BatchStoreFunction} that stores model objects using an existing
+ * {@link StoreFunction}, flushing the queued statements every time a chunk of model objects has been stored. The sql session passed to it should be
+ * opened with {@link org.apache.ibatis.session.ExecutorType#BATCH} so the statements of a chunk are sent to the database in a single JDBC batch.
+ * Statements flushed before a failing chunk are not rolled back by this function; that is left to the owner of the sql session.
+ * <p>
+ * When a flush fails, the model objects that failed are found from the order their statements were queued in, so the store function must queue
+ * the same number of statements for every model object, and that number must be given when it is more than one.
+ *
+ * @param <T> The type of model object being stored.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class ChunkedBatchStoreFunction<T extends ModelObject> implements BatchStoreFunction<T, SqlSession> {
+    /**
+     * The number of model objects stored between flushes when no chunk size is given.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    /**
+     * The store function used to queue the insert of a single model object.
+     */
+    private final StoreFunction<T, SqlSession> storeFunction;
+    /**
+     * Function that returns the ID of a model object, used to report which model objects failed to store.
+     */
+    private final Function<T, UUID> idFunction;
+    /**
+     * The number of model objects stored between flushes.
+     */
+    private final int chunkSize;
+    /**
+     * The number of statements the store function queues for each model object.
+     */
+    private final int statementsPerModelObject;
+
+    /**
+     * Constructor using the {@link #DEFAULT_CHUNK_SIZE}.
+     *
+     * @param storeFunction Value of {@link #storeFunction}.
+     * @param idFunction Value of {@link #idFunction}.
+     */
+    public ChunkedBatchStoreFunction(final StoreFunction<T, SqlSession> storeFunction, final Function<T, UUID> idFunction) {
+        this(storeFunction, idFunction, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructor for a store function that queues a single statement for each model object.
+     *
+     * @param storeFunction Value of {@link #storeFunction}.
+     * @param idFunction Value of {@link #idFunction}.
+     * @param chunkSize Value of {@link #chunkSize}, must be at least one.
+     */
+    public ChunkedBatchStoreFunction(final StoreFunction<T, SqlSession> storeFunction, final Function<T, UUID> idFunction, final int chunkSize) {
+        this(storeFunction, idFunction, chunkSize, 1);
+    }
+
+    /**
+     * Base Constructor taking all values as parameters.
+     *
+     * @param storeFunction Value of {@link #storeFunction}.
+     * @param idFunction Value of {@link #idFunction}.
+     * @param chunkSize Value of {@link #chunkSize}, must be at least one.
+     * @param statementsPerModelObject Value of {@link #statementsPerModelObject}, must be at least one.
+     */
+    public ChunkedBatchStoreFunction(final StoreFunction<T, SqlSession> storeFunction, final Function<T, UUID> idFunction, final int chunkSize,
+            final int statementsPerModelObject) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least one but was " + chunkSize);
+        }
+        if (statementsPerModelObject < 1) {
+            throw new IllegalArgumentException("Statements per model object must be at least one but was " + statementsPerModelObject);
+        }
+        this.storeFunction = storeFunction;
+        this.idFunction = idFunction;
+        this.chunkSize = chunkSize;
+        this.statementsPerModelObject = statementsPerModelObject;
+    }
+
+    @Override
+    public void apply(final Collection<T> modelObjects, final SqlSession sqlSession) throws DatastoreSaveException {
+        List<T> chunk = new ArrayList<>(Math.min(chunkSize, modelObjects.size()));
+        for (T modelObject : modelObjects) {
+            try {
+                storeFunction.apply(modelObject, sqlSession);
+            } catch (DatastoreSaveException | PersistenceException e) {
+                throw new DatastoreBatchSaveException("Unable to store model object in batch", e, List.of(idFunction.apply(modelObject)));
+            }
+            chunk.add(modelObject);
+            if (chunk.size() == chunkSize) {
+                flush(chunk, sqlSession);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            flush(chunk, sqlSession);
+        }
+    }
+
+    /**
+     * Accessor for the {@link #chunkSize} member variable.
+     *
+     * @return Current value of the {@link #chunkSize} member variable
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    private void flush(final List<T> chunk, final SqlSession sqlSession) throws DatastoreBatchSaveException {
+        try {
+            sqlSession.flushStatements();
+        } catch (PersistenceException e) {
+            throw new DatastoreBatchSaveException("Unable to flush batch of " + chunk.size() + " model objects", e,
+                    BatchResultUtil.findFailedIds(chunk, e, idFunction, statementsPerModelObject));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreBatchSaveException;
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreSaveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.SqlSession;
+
+/**
+ * The <code>ChunkedBatchUpsertFunction</code> class is a {@link BatchUpsertFunction} that queues a single row upsert statement for each model object
+ * and flushes the queued statements every time a chunk of model objects has been queued. The sql session passed to it should be opened with
+ * {@link org.apache.ibatis.session.ExecutorType#BATCH}. The outcome of each row is derived from the update count the driver reports for it by a
+ * function the caller supplies, since the meaning of the count depends on the database and driver settings: MySQL and MariaDB report the affected
+ * row convention of {@link UpsertOutcome#fromAffectedRows(int)} unless <code>CLIENT_FOUND_ROWS</code> is set, while PostgreSQL reports one for
+ * both an insert and an update.
+ * <p>
+ * Update counts are matched to model objects by the order their statements were queued, so the upsert statement function must queue exactly one
+ * statement per model object. A flush whose update counts cannot be matched that way, or whose counts the outcome function rejects, fails with a
+ * {@link DatastoreBatchSaveException} naming every model object of the chunk, since the statements have already been executed.
+ *
+ * @param <T> The type of model object being stored or updated.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class ChunkedBatchUpsertFunction<T extends ModelObject> implements BatchUpsertFunction<T, SqlSession> {
+    /**
+     * The number of model objects upserted between flushes when no chunk size is given.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    /**
+     * The function used to queue the upsert statement of a single model object.
+     */
+    private final StoreFunction<T, SqlSession> upsertStatementFunction;
+    /**
+     * Function that returns the ID of a model object, used to key the outcomes and report failures.
+     */
+    private final Function<T, UUID> idFunction;
+    /**
+     * Function converting the update count reported for a row into its outcome.
+     */
+    private final IntFunction<UpsertOutcome> outcomeFunction;
+    /**
+     * The number of model objects upserted between flushes.
+     */
+    private final int chunkSize;
+
+    /**
+     * Constructor using the {@link #DEFAULT_CHUNK_SIZE}.
+     *
+     * @param upsertStatementFunction Value of {@link #upsertStatementFunction}.
+     * @param idFunction Value of {@link #idFunction}.
+     * @param outcomeFunction Value of {@link #outcomeFunction}.
+     */
+    public ChunkedBatchUpsertFunction(final StoreFunction<T, SqlSession> upsertStatementFunction, final Function<T, UUID> idFunction,
+            final IntFunction<UpsertOutcome> outcomeFunction) {
+        this(upsertStatementFunction, idFunction, outcomeFunction, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Base Constructor taking all values as parameters.
+     *
+     * @param upsertStatementFunction Value of {@link #upsertStatementFunction}.
+     * @param idFunction Value of {@link #idFunction}.
+     * @param outcomeFunction Value of {@link #outcomeFunction}.
+     * @param chunkSize Value of {@link #chunkSize}, must be at least one.
+     */
+    public ChunkedBatchUpsertFunction(final StoreFunction<T, SqlSession> upsertStatementFunction, final Function<T, UUID> idFunction,
+            final IntFunction<UpsertOutcome> outcomeFunction, final int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least one but was " + chunkSize);
+        }
+        this.upsertStatementFunction = upsertStatementFunction;
+        this.idFunction = idFunction;
+        this.outcomeFunction = outcomeFunction;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public Map<UUID, UpsertOutcome> apply(final Collection<T> modelObjects, final SqlSession sqlSession) throws DatastoreSaveException {
+        Map<UUID, UpsertOutcome> outcomes = new LinkedHashMap<>(modelObjects.size() * 2);
+        List<T> chunk = new ArrayList<>(Math.min(chunkSize, modelObjects.size()));
+        for (T modelObject : modelObjects) {
+            try {
+                upsertStatementFunction.apply(modelObject, sqlSession);
+            } catch (DatastoreSaveException | PersistenceException e) {
+                throw new DatastoreBatchSaveException("Unable to upsert model object in batch", e, List.of(idFunction.apply(modelObject)));
+            }
+            chunk.add(modelObject);
+            if (chunk.size() == chunkSize) {
+                flush(chunk, sqlSession, outcomes);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            flush(chunk, sqlSession, outcomes);
+        }
+        return outcomes;
+    }
+
+    /**
+     * Accessor for the {@link #chunkSize} member variable.
+     *
+     * @return Current value of the {@link #chunkSize} member variable
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    private void flush(final List<T> chunk, final SqlSession sqlSession, final Map<UUID, UpsertOutcome> outcomes)
+            throws DatastoreBatchSaveException {
+        int[] updateCounts;
+        try {
+            updateCounts = BatchResultUtil.findUpdateCounts(sqlSession.flushStatements());
+        } catch (PersistenceException e) {
+            throw new DatastoreBatchSaveException("Unable to flush batch of " + chunk.size() + " model objects", e,
+                    BatchResultUtil.findFailedIds(chunk, e, idFunction, 1));
+        }
+        if (updateCounts == null || updateCounts.length != chunk.size()) {
+            throw new DatastoreBatchSaveException("Unable to match " + (updateCounts == null ? "missing" : updateCounts.length)
+                    + " update counts to a batch of " + chunk.size() + " model objects", ids(chunk));
+        }
+        Map<UUID, UpsertOutcome> chunkOutcomes = new LinkedHashMap<>(chunk.size() * 2);
+        for (int index = 0; index < chunk.size(); index++) {
+            try {
+                chunkOutcomes.put(idFunction.apply(chunk.get(index)), outcomeFunction.apply(updateCounts[index]));
+            } catch (IllegalArgumentException e) {
+                throw new DatastoreBatchSaveException("Unable to determine the outcome of a batch of " + chunk.size() + " model objects", e,
+                        ids(chunk));
+            }
+        }
+        outcomes.putAll(chunkOutcomes);
+    }
+
+    private List<UUID> ids(final List<T> chunk) {
+        List<UUID> ids = new ArrayList<>(chunk.size());
+        for (T modelObject : chunk) {
+            ids.add(idFunction.apply(modelObject));
+        }
+        return ids;
+    }
+}
\ No newline at end of file
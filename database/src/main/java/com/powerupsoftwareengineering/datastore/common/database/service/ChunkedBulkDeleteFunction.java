@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreDeleteException;
+import com.powerupsoftwareengineering.lambda.functions.api.TwoParameterFunction;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.SqlSession;
+
+/**
+ * The <code>ChunkedBulkDeleteFunction</code> class is a {@link BulkDeleteFunction} that splits the IDs to delete into chunks and deletes each chunk
+ * with a single statement, normally a mapper statement using an <code>IN (...)</code> clause built with a <code>foreach</code> element. All chunks
+ * are deleted using the given sql session, so they are part of the same transaction; use {@link ChunkedPredicateDelete} to spread a large delete
+ * over several transactions.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class ChunkedBulkDeleteFunction implements BulkDeleteFunction<SqlSession> {
+    /**
+     * The number of IDs deleted per statement when no chunk size is given.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    /**
+     * The function that deletes the rows matching a chunk of IDs, returning the number of rows deleted.
+     */
+    private final TwoParameterFunction<List<UUID>, SqlSession, Integer> chunkDeleteFunction;
+    /**
+     * The maximum number of IDs deleted per statement.
+     */
+    private final int chunkSize;
+
+    /**
+     * Constructor using the {@link #DEFAULT_CHUNK_SIZE}.
+     *
+     * @param chunkDeleteFunction Value of {@link #chunkDeleteFunction}.
+     */
+    public ChunkedBulkDeleteFunction(final TwoParameterFunction<List<UUID>, SqlSession, Integer> chunkDeleteFunction) {
+        this(chunkDeleteFunction, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Base Constructor taking all values as parameters.
+     *
+     * @param chunkDeleteFunction Value of {@link #chunkDeleteFunction}.
+     * @param chunkSize Value of {@link #chunkSize}, must be at least one.
+     */
+    public ChunkedBulkDeleteFunction(final TwoParameterFunction<List<UUID>, SqlSession, Integer> chunkDeleteFunction, final int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least one but was " + chunkSize);
+        }
+        this.chunkDeleteFunction = chunkDeleteFunction;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public int apply(final Collection<UUID> ids, final SqlSession sqlSession) throws DatastoreDeleteException {
+        List<UUID> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        int deleted = 0;
+        for (int start = 0; start < distinctIds.size(); start += chunkSize) {
+            List<UUID> chunk = distinctIds.subList(start, Math.min(start + chunkSize, distinctIds.size()));
+            try {
+                deleted += chunkDeleteFunction.apply(chunk, sqlSession);
+            } catch (PersistenceException e) {
+                throw new DatastoreDeleteException("Unable to delete chunk of " + chunk.size() + " model objects", e);
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Accessor for the {@link #chunkSize} member variable.
+     *
+     * @return Current value of the {@link #chunkSize} member variable
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreRetrieveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import com.powerupsoftwareengineering.lambda.functions.api.TwoParameterFunction;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.SqlSession;
+
+/**
+ * The <code>ChunkedBulkRetrieveFunction</code> class is a {@link BulkRetrieveFunction} that splits the requested IDs into chunks and retrieves each
+ * chunk with a single query, normally a mapper statement using an <code>IN (...)</code> clause built with a <code>foreach</code> element. The chunk
+ * size should be kept below the bind parameter limit of the database driver, for example 1000 elements of an Oracle <code>IN</code> list or 2100
+ * parameters of a SQL Server statement.
+ *
+ * @param <T> The type of model object being retrieved.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class ChunkedBulkRetrieveFunction<T extends ModelObject> implements BulkRetrieveFunction<T, SqlSession> {
+    /**
+     * The number of IDs retrieved per query when no chunk size is given.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    /**
+     * The function that retrieves the model objects matching a chunk of IDs. IDs that do not match a model object are left out of the result.
+     */
+    private final TwoParameterFunction<List<UUID>, SqlSession, List<T>> chunkRetrieveFunction;
+    /**
+     * Function that returns the ID of a model object, used to match retrieved model objects to the requested IDs.
+     */
+    private final Function<T, UUID> idFunction;
+    /**
+     * The maximum number of IDs retrieved per query.
+     */
+    private final int chunkSize;
+
+    /**
+     * Constructor using the {@link #DEFAULT_CHUNK_SIZE}.
+     *
+     * @param chunkRetrieveFunction Value of {@link #chunkRetrieveFunction}.
+     * @param idFunction Value of {@link #idFunction}.
+     */
+    public ChunkedBulkRetrieveFunction(final TwoParameterFunction<List<UUID>, SqlSession, List<T>> chunkRetrieveFunction,
+            final Function<T, UUID> idFunction) {
+        this(chunkRetrieveFunction, idFunction, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Base Constructor taking all values as parameters.
+     *
+     * @param chunkRetrieveFunction Value of {@link #chunkRetrieveFunction}.
+     * @param idFunction Value of {@link #idFunction}.
+     * @param chunkSize Value of {@link #chunkSize}, must be at least one.
+     */
+    public ChunkedBulkRetrieveFunction(final TwoParameterFunction<List<UUID>, SqlSession, List<T>> chunkRetrieveFunction,
+            final Function<T, UUID> idFunction, final int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least one but was " + chunkSize);
+        }
+        this.chunkRetrieveFunction = chunkRetrieveFunction;
+        this.idFunction = idFunction;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public BulkRetrieveResult<T> apply(final Collection<UUID> ids, final SqlSession sqlSession) throws DatastoreRetrieveException {
+        List<UUID> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<UUID, T> retrieved = new HashMap<>(distinctIds.size() * 2);
+        for (int start = 0; start < distinctIds.size(); start += chunkSize) {
+            List<UUID> chunk = distinctIds.subList(start, Math.min(start + chunkSize, distinctIds.size()));
+            try {
+                for (T modelObject : chunkRetrieveFunction.apply(chunk, sqlSession)) {
+                    retrieved.put(idFunction.apply(modelObject), modelObject);
+                }
+            } catch (PersistenceException e) {
+                throw new DatastoreRetrieveException("Unable to retrieve chunk of " + chunk.size() + " model objects", e);
+            }
+        }
+        Map<UUID, T> modelObjects = new LinkedHashMap<>(distinctIds.size() * 2);
+        Set<UUID> missingIds = new LinkedHashSet<>();
+        for (UUID id : distinctIds) {
+            T modelObject = retrieved.get(id);
+            if (modelObject != null) {
+                modelObjects.put(id, modelObject);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new BulkRetrieveResult<>(modelObjects, missingIds);
+    }
+
+    /**
+     * Accessor for the {@link #chunkSize} member variable.
+     *
+     * @return Current value of the {@link #chunkSize} member variable
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreDeleteException;
+import com.powerupsoftwareengineering.lambda.functions.api.TwoParameterFunction;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+
+/**
+ * The <code>ChunkedPredicateDelete</code> class deletes every row matching a predicate in bounded transactions. Each chunk is deleted and committed
+ * in its own sql session, so locks are only held for the duration of one chunk. Chunks are deleted until a chunk deletes fewer rows than the chunk
+ * size. Chunks committed before a failure stay deleted.
+ *
+ * @param <T> The type of the values the predicate is built from.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class ChunkedPredicateDelete<T> {
+    /**
+     * The number of rows deleted per transaction when no chunk size is given.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    /**
+     * The factory used to open a sql session for each chunk.
+     */
+    private final SqlSessionFactory sqlSessionFactory;
+    /**
+     * The function that deletes at most {@link PredicateDeleteParameterGroup#limit()} rows matching the predicate, returning the number of rows
+     * deleted.
+     */
+    private final TwoParameterFunction<PredicateDeleteParameterGroup<T>, SqlSession, Integer> chunkDeleteFunction;
+    /**
+     * The maximum number of rows deleted per transaction.
+     */
+    private final int chunkSize;
+
+    /**
+     * Constructor using the {@link #DEFAULT_CHUNK_SIZE}.
+     *
+     * @param sqlSessionFactory Value of {@link #sqlSessionFactory}.
+     * @param chunkDeleteFunction Value of {@link #chunkDeleteFunction}.
+     */
+    public ChunkedPredicateDelete(final SqlSessionFactory sqlSessionFactory,
+            final TwoParameterFunction<PredicateDeleteParameterGroup<T>, SqlSession, Integer> chunkDeleteFunction) {
+        this(sqlSessionFactory, chunkDeleteFunction, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Base Constructor taking all values as parameters.
+     *
+     * @param sqlSessionFactory Value of {@link #sqlSessionFactory}.
+     * @param chunkDeleteFunction Value of {@link #chunkDeleteFunction}.
+     * @param chunkSize Value of {@link #chunkSize}, must be at least one.
+     */
+    public ChunkedPredicateDelete(final SqlSessionFactory sqlSessionFactory,
+            final TwoParameterFunction<PredicateDeleteParameterGroup<T>, SqlSession, Integer> chunkDeleteFunction, final int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least one but was " + chunkSize);
+        }
+        this.sqlSessionFactory = sqlSessionFactory;
+        this.chunkDeleteFunction = chunkDeleteFunction;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Deletes every row matching the predicate, one chunk per transaction.
+     *
+     * @param predicate The values the mapper uses to select the rows to delete.
+     *
+     * @return The total number of rows deleted.
+     *
+     * @throws DatastoreDeleteException Unable to delete a chunk, rows from chunks that were already committed remain deleted.
+     */
+    public long delete(final T predicate) throws DatastoreDeleteException {
+        PredicateDeleteParameterGroup<T> parameterGroup = new PredicateDeleteParameterGroup<>(predicate, chunkSize);
+        long deleted = 0;
+        int chunkDeleted;
+        do {
+            try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+                chunkDeleted = chunkDeleteFunction.apply(parameterGroup, sqlSession);
+                sqlSession.commit();
+            } catch (PersistenceException e) {
+                throw new DatastoreDeleteException("Unable to delete chunk after deleting " + deleted + " rows", e);
+            }
+            deleted += chunkDeleted;
+        } while (chunkDeleted >= chunkSize);
+        return deleted;
+    }
+
+    /**
+     * Accessor for the {@link #chunkSize} member variable.
+     *
+     * @return Current value of the {@link #chunkSize} member variable
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+}
\ No newline at end of file
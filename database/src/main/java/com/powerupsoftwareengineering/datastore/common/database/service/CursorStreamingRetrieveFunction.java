@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreRetrieveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import com.powerupsoftwareengineering.lambda.functions.api.TwoParameterFunction;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.SqlSession;
+
+/**
+ * The <code>CursorStreamingRetrieveFunction</code> class is a {@link StreamingRetrieveFunction} backed by a MyBatis {@link Cursor}, normally a mapper
+ * method returning <code>Cursor&lt;T&gt;</code>. Only the rows fetched by the driver are held in memory, so the mapper statement should declare a
+ * <code>fetchSize</code>, either with <code>@Options(fetchSize = ...)</code> or the <code>fetchSize</code> attribute of the XML element, otherwise
+ * some drivers read the whole result set on the first fetch. PostgreSQL additionally only streams when the sql session is not in auto commit mode.
+ * <p>
+ * Closing the stream closes the cursor and the JDBC statement behind it. Failures while reading rows are raised by the stream as
+ * {@link PersistenceException}.
+ *
+ * @param <OneT> The type of parameter used to select the model objects.
+ * @param <T> The type of model object being retrieved.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class CursorStreamingRetrieveFunction<OneT, T extends ModelObject> implements StreamingRetrieveFunction<OneT, SqlSession, T> {
+    /**
+     * The function that opens the cursor over the selected model objects.
+     */
+    private final TwoParameterFunction<OneT, SqlSession, Cursor<T>> cursorFunction;
+
+    /**
+     * Base Constructor taking all values as parameters.
+     *
+     * @param cursorFunction Value of {@link #cursorFunction}.
+     */
+    public CursorStreamingRetrieveFunction(final TwoParameterFunction<OneT, SqlSession, Cursor<T>> cursorFunction) {
+        this.cursorFunction = cursorFunction;
+    }
+
+    @Override
+    public Stream<T> apply(final OneT parameter, final SqlSession sqlSession) throws DatastoreRetrieveException {
+        Cursor<T> cursor;
+        try {
+            cursor = cursorFunction.apply(parameter, sqlSession);
+        } catch (PersistenceException e) {
+            throw new DatastoreRetrieveException("Unable to open cursor for " + parameter, e);
+        }
+        return StreamSupport.stream(cursor.spliterator(), false).onClose(() -> close(cursor));
+    }
+
+    private static void close(final Cursor<?> cursor) {
+        try {
+            cursor.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
\ No newline at end of file
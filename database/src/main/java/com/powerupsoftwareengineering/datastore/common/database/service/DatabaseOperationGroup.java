@@ -48,6 +48,39 @@ public class DatabaseOperationGroup<T extends ModelObject> {
      * The retrieve function that will retrieve a model object from the database.
      */
     private final TwoParameterFunction<UUID, SqlSession, T> retrieveFunction;
+    /**
+     * The batch store function that is for inserting a collection of new model objects into the database. This is only needed for objects that are
+     * stored in bulk.
+     */
+    private final BatchStoreFunction<T, SqlSession> batchStoreFunction;
+    /**
+     * The bulk retrieve function that will retrieve a collection of model objects from the database by their IDs. This is only needed for objects
+     * that are retrieved in bulk.
+     */
+    private final BulkRetrieveFunction<T, SqlSession> bulkRetrieveFunction;
+    /**
+     * The delete function that is for removing model objects from the database.
+     */
+    private final DeleteFunction<T, SqlSession> deleteFunction;
+    /**
+     * The bulk delete function that is for removing a collection of model objects from the database by their IDs. This is only needed for objects
+     * that are deleted in bulk.
+     */
+    private final BulkDeleteFunction<SqlSession> bulkDeleteFunction;
+    /**
+     * The upsert function that stores a new model object or updates the existing one in a single statement. This is only needed for objects that are
+     * written without knowing if they already exist.
+     */
+    private final UpsertFunction<T, SqlSession> upsertFunction;
+    /**
+     * The batch upsert function that stores or updates a collection of model objects. This is only needed for objects that are upserted in bulk.
+     */
+    private final BatchUpsertFunction<T, SqlSession> batchUpsertFunction;
+    /**
+     * The versioned update function that updates existing model objects guarded by the version they were read at, without needing the existing model
+     * object. This is only needed for objects that use optimistic concurrency.
+     */
+    private final VersionedUpdateFunction<T, SqlSession> versionedUpdateFunction;
 
     /**
      * Base Constructor taking all functions except the cascade update function as parameters. Use this version if there is no need for
@@ -72,10 +105,30 @@ public class DatabaseOperationGroup<T extends ModelObject> {
      */
     public DatabaseOperationGroup(final StoreFunction<T, SqlSession> storeFunction, final UpdateFunction<T, SqlSession> updateFunction,
             final CascadeUpdateFunction<T, SqlSession> cascadeUpdateFunction, final TwoParameterFunction<UUID, SqlSession, T> retrieveFunction) {
-        this.storeFunction = storeFunction;
-        this.updateFunction = updateFunction;
-        this.cascadeUpdateFunction = cascadeUpdateFunction;
-        this.retrieveFunction = retrieveFunction;
+        this(new Builder<T>()
+                .setStoreFunction(storeFunction)
+                .setUpdateFunction(updateFunction)
+                .setCascadeUpdateFunction(cascadeUpdateFunction)
+                .setRetrieveFunction(retrieveFunction));
+    }
+
+    /**
+     * Constructor taking the builder holding the functions of the group. Use {@link Builder#build()} to create a group with optional functions.
+     *
+     * @param builder The builder holding the functions of the group.
+     */
+    protected DatabaseOperationGroup(final Builder<T> builder) {
+        this.storeFunction = builder.storeFunction;
+        this.updateFunction = builder.updateFunction;
+        this.cascadeUpdateFunction = builder.cascadeUpdateFunction;
+        this.retrieveFunction = builder.retrieveFunction;
+        this.batchStoreFunction = builder.batchStoreFunction;
+        this.bulkRetrieveFunction = builder.bulkRetrieveFunction;
+        this.deleteFunction = builder.deleteFunction;
+        this.bulkDeleteFunction = builder.bulkDeleteFunction;
+        this.upsertFunction = builder.upsertFunction;
+        this.batchUpsertFunction = builder.batchUpsertFunction;
+        this.versionedUpdateFunction = builder.versionedUpdateFunction;
     }
 
     /**
@@ -113,4 +166,254 @@ public class DatabaseOperationGroup<T extends ModelObject> {
     public TwoParameterFunction<UUID, SqlSession, T> getRetrieveFunction() {
         return retrieveFunction;
     }
+
+    /**
+     * Accessor for the {@link #batchStoreFunction} member variable.
+     *
+     * @return Current value of the {@link #batchStoreFunction} member variable
+     */
+    public BatchStoreFunction<T, SqlSession> getBatchStoreFunction() {
+        return batchStoreFunction;
+    }
+
+    /**
+     * Accessor for the {@link #bulkRetrieveFunction} member variable.
+     *
+     * @return Current value of the {@link #bulkRetrieveFunction} member variable
+     */
+    public BulkRetrieveFunction<T, SqlSession> getBulkRetrieveFunction() {
+        return bulkRetrieveFunction;
+    }
+
+    /**
+     * Accessor for the {@link #deleteFunction} member variable.
+     *
+     * @return Current value of the {@link #deleteFunction} member variable
+     */
+    public DeleteFunction<T, SqlSession> getDeleteFunction() {
+        return deleteFunction;
+    }
+
+    /**
+     * Accessor for the {@link #bulkDeleteFunction} member variable.
+     *
+     * @return Current value of the {@link #bulkDeleteFunction} member variable
+     */
+    public BulkDeleteFunction<SqlSession> getBulkDeleteFunction() {
+        return bulkDeleteFunction;
+    }
+
+    /**
+     * Accessor for the {@link #upsertFunction} member variable.
+     *
+     * @return Current value of the {@link #upsertFunction} member variable
+     */
+    public UpsertFunction<T, SqlSession> getUpsertFunction() {
+        return upsertFunction;
+    }
+
+    /**
+     * Accessor for the {@link #batchUpsertFunction} member variable.
+     *
+     * @return Current value of the {@link #batchUpsertFunction} member variable
+     */
+    public BatchUpsertFunction<T, SqlSession> getBatchUpsertFunction() {
+        return batchUpsertFunction;
+    }
+
+    /**
+     * Accessor for the {@link #versionedUpdateFunction} member variable.
+     *
+     * @return Current value of the {@link #versionedUpdateFunction} member variable
+     */
+    public VersionedUpdateFunction<T, SqlSession> getVersionedUpdateFunction() {
+        return versionedUpdateFunction;
+    }
+
+    /**
+     * Creates a builder holding the functions of this group, so a copy of the group with some of the functions replaced can be created.
+     *
+     * @return A new builder holding the functions of this group.
+     */
+    public Builder<T> toBuilder() {
+        return new Builder<T>()
+                .setStoreFunction(storeFunction)
+                .setUpdateFunction(updateFunction)
+                .setCascadeUpdateFunction(cascadeUpdateFunction)
+                .setRetrieveFunction(retrieveFunction)
+                .setBatchStoreFunction(batchStoreFunction)
+                .setBulkRetrieveFunction(bulkRetrieveFunction)
+                .setDeleteFunction(deleteFunction)
+                .setBulkDeleteFunction(bulkDeleteFunction)
+                .setUpsertFunction(upsertFunction)
+                .setBatchUpsertFunction(batchUpsertFunction)
+                .setVersionedUpdateFunction(versionedUpdateFunction);
+    }
+
+    /**
+     * The <code>Builder</code> class is used to create a {@link DatabaseOperationGroup} when optional functions, beyond those taken by the
+     * constructors, are needed.
+     *
+     * @param <T> The type of model object the database options are for.
+     */
+    public static class Builder<T extends ModelObject> {
+        private StoreFunction<T, SqlSession> storeFunction;
+        private UpdateFunction<T, SqlSession> updateFunction;
+        private CascadeUpdateFunction<T, SqlSession> cascadeUpdateFunction;
+        private TwoParameterFunction<UUID, SqlSession, T> retrieveFunction;
+        private BatchStoreFunction<T, SqlSession> batchStoreFunction;
+        private BulkRetrieveFunction<T, SqlSession> bulkRetrieveFunction;
+        private DeleteFunction<T, SqlSession> deleteFunction;
+        private BulkDeleteFunction<SqlSession> bulkDeleteFunction;
+        private UpsertFunction<T, SqlSession> upsertFunction;
+        private BatchUpsertFunction<T, SqlSession> batchUpsertFunction;
+        private VersionedUpdateFunction<T, SqlSession> versionedUpdateFunction;
+
+        /**
+         * Default constructor.
+         */
+        public Builder() {
+        }
+
+        /**
+         * Sets the store function of the group.
+         *
+         * @param storeFunction Value of {@link DatabaseOperationGroup#storeFunction}.
+         *
+         * @return This builder.
+         */
+        public Builder<T> setStoreFunction(final StoreFunction<T, SqlSession> storeFunction) {
+            this.storeFunction = storeFunction;
+            return this;
+        }
+
+        /**
+         * Sets the update function of the group.
+         *
+         * @param updateFunction Value of {@link DatabaseOperationGroup#updateFunction}.
+         *
+         * @return This builder.
+         */
+        public Builder<T> setUpdateFunction(final UpdateFunction<T, SqlSession> updateFunction) {
+            this.updateFunction = updateFunction;
+            return this;
+        }
+
+        /**
+         * Sets the cascade update function of the group.
+         *
+         * @param cascadeUpdateFunction Value of {@link DatabaseOperationGroup#cascadeUpdateFunction}.
+         *
+         * @return This builder.
+         */
+        public Builder<T> setCascadeUpdateFunction(final CascadeUpdateFunction<T, SqlSession> cascadeUpdateFunction) {
+            this.cascadeUpdateFunction = cascadeUpdateFunction;
+            return this;
+        }
+
+        /**
+         * Sets the retrieve function of the group.
+         *
+         * @param retrieveFunction Value of {@link DatabaseOperationGroup#retrieveFunction}.
+         *
+         * @return This builder.
+         */
+        public Builder<T> setRetrieveFunction(final TwoParameterFunction<UUID, SqlSession, T> retrieveFunction) {
+            this.retrieveFunction = retrieveFunction;
+            return this;
+        }
+
+        /**
+         * Sets the batch store function of the group.
+         *
+         * @param batchStoreFunction Value of {@link DatabaseOperationGroup#batchStoreFunction}.
+         *
+         * @return This builder.
+         */
+        public Builder<T> setBatchStoreFunction(final BatchStoreFunction<T, SqlSession> batchStoreFunction) {
+            this.batchStoreFunction = batchStoreFunction;
+            return this;
+        }
+
+        /**
+         * Sets the bulk retrieve function of the group.
+         *
+         * @param bulkRetrieveFunction Value of {@link DatabaseOperationGroup#bulkRetrieveFunction}.
+         *
+         * @return This builder.
+         */
+        public Builder<T> setBulkRetrieveFunction(final BulkRetrieveFunction<T, SqlSession> bulkRetrieveFunction) {
+            this.bulkRetrieveFunction = bulkRetrieveFunction;
+            return this;
+        }
+
+        /**
+         * Sets the delete function of the group.
+         *
+         * @param deleteFunction Value of {@link DatabaseOperationGroup#deleteFunction}.
+         *
+         * @return This builder.
+         */
+        public Builder<T> setDeleteFunction(final DeleteFunction<T, SqlSession> deleteFunction) {
+            this.deleteFunction = deleteFunction;
+            return this;
+        }
+
+        /**
+         * Sets the bulk delete function of the group.
+         *
+         * @param bulkDeleteFunction Value of {@link DatabaseOperationGroup#bulkDeleteFunction}.
+         *
+         * @return This builder.
+         */
+        public Builder<T> setBulkDeleteFunction(final BulkDeleteFunction<SqlSession> bulkDeleteFunction) {
+            this.bulkDeleteFunction = bulkDeleteFunction;
+            return this;
+        }
+
+        /**
+         * Sets the upsert function of the group.
+         *
+         * @param upsertFunction Value of {@link DatabaseOperationGroup#upsertFunction}.
+         *
+         * @return This builder.
+         */
+        public Builder<T> setUpsertFunction(final UpsertFunction<T, SqlSession> upsertFunction) {
+            this.upsertFunction = upsertFunction;
+            return this;
+        }
+
+        /**
+         * Sets the batch upsert function of the group.
+         *
+         * @param batchUpsertFunction Value of {@link DatabaseOperationGroup#batchUpsertFunction}.
+         *
+         * @return This builder.
+         */
+        public Builder<T> setBatchUpsertFunction(final BatchUpsertFunction<T, SqlSession> batchUpsertFunction) {
+            this.batchUpsertFunction = batchUpsertFunction;
+            return this;
+        }
+
+        /**
+         * Sets the versioned update function of the group.
+         *
+         * @param versionedUpdateFunction Value of {@link DatabaseOperationGroup#versionedUpdateFunction}.
+         *
+         * @return This builder.
+         */
+        public Builder<T> setVersionedUpdateFunction(final VersionedUpdateFunction<T, SqlSession> versionedUpdateFunction) {
+            this.versionedUpdateFunction = versionedUpdateFunction;
+            return this;
+        }
+
+        /**
+         * Creates the database operation group from the functions set on this builder.
+         *
+         * @return The new database operation group.
+         */
+        public DatabaseOperationGroup<T> build() {
+            return new DatabaseOperationGroup<>(this);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreRetrieveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import com.powerupsoftwareengineering.lambda.functions.api.TwoParameterFunction;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import org.apache.ibatis.session.SqlSession;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * The <code>DatabaseOperationGroupCache</code> class is a bounded, in process, read through cache of model objects that is placed in front of a
+ * {@link DatabaseOperationGroup}. Model objects are immutable, so cached instances are shared between threads without being copied.
+ * <p>
+ * Entries are invalidated when the store, update, cascade update, upsert or delete functions of a decorated group write the model object. When the
+ * write is part of a Spring managed transaction the entry is invalidated again once the transaction completes, so a value read by another thread
+ * before the commit does not outlive the transaction. Without a Spring managed transaction, staleness is bounded by the time to live of the cache.
+ * <p>
+ * Model objects read inside an active Spring managed transaction are served from the cache but never added to it, since they may hold state the
+ * transaction has not committed and could still roll back.
+ *
+ * @param <T> The type of model object being cached.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class DatabaseOperationGroupCache<T extends ModelObject> {
+    /**
+     * The cache of model objects keyed by ID.
+     */
+    private final Cache<UUID, T> cache;
+    /**
+     * Function that returns the ID of a model object, used to find the cache entry of a written model object.
+     */
+    private final Function<T, UUID> idFunction;
+
+    /**
+     * Constructor creating a cache bounded by the number of entries, with entries expiring a fixed time after they were loaded.
+     *
+     * @param idFunction Value of {@link #idFunction}.
+     * @param maximumSize The maximum number of model objects held by the cache.
+     * @param timeToLive The time after being loaded that a model object is removed from the cache.
+     */
+    public DatabaseOperationGroupCache(final Function<T, UUID> idFunction, final long maximumSize, final Duration timeToLive) {
+        this(idFunction, CacheBuilder.newBuilder().maximumSize(maximumSize).expireAfterWrite(timeToLive).build());
+    }
+
+    /**
+     * Base Constructor taking all values as parameters. Use this version to supply a cache with weight based eviction or other custom settings.
+     *
+     * @param idFunction Value of {@link #idFunction}.
+     * @param cache Value of {@link #cache}.
+     */
+    public DatabaseOperationGroupCache(final Function<T, UUID> idFunction, final Cache<UUID, T> cache) {
+        this.idFunction = idFunction;
+        this.cache = cache;
+    }
+
+    /**
+     * Creates a copy of a database operation group whose retrieve functions are served from this cache and whose write functions invalidate it.
+     *
+     * @param group The database operation group to place the cache in front of.
+     *
+     * @return The database operation group using this cache.
+     */
+    public DatabaseOperationGroup<T> decorate(final DatabaseOperationGroup<T> group) {
+        DatabaseOperationGroup.Builder<T> builder = group.toBuilder();
+        WriteInvalidationUtil.decorateWrites(group, builder, idFunction, (ids, sqlSession) -> invalidateOnWrite(ids));
+        TwoParameterFunction<UUID, SqlSession, T> retrieveFunction = group.getRetrieveFunction();
+        if (retrieveFunction != null) {
+            builder.setRetrieveFunction((id, sqlSession) -> {
+                T modelObject = cache.getIfPresent(id);
+                if (modelObject == null) {
+                    modelObject = retrieveFunction.apply(id, sqlSession);
+                    if (modelObject != null && !TransactionSynchronizationManager.isActualTransactionActive()) {
+                        cache.put(id, modelObject);
+                    }
+                }
+                return modelObject;
+            });
+        }
+        BulkRetrieveFunction<T, SqlSession> bulkRetrieveFunction = group.getBulkRetrieveFunction();
+        if (bulkRetrieveFunction != null) {
+            builder.setBulkRetrieveFunction((ids, sqlSession) -> bulkRetrieve(bulkRetrieveFunction, ids, sqlSession));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Removes a model object from the cache.
+     *
+     * @param id The ID of the model object to remove.
+     */
+    public void invalidate(final UUID id) {
+        cache.invalidate(id);
+    }
+
+    /**
+     * Removes all model objects from the cache.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private BulkRetrieveResult<T> bulkRetrieve(final BulkRetrieveFunction<T, SqlSession> bulkRetrieveFunction, final Collection<UUID> ids,
+            final SqlSession sqlSession) throws DatastoreRetrieveException {
+        Set<UUID> distinctIds = new LinkedHashSet<>(ids);
+        Map<UUID, T> cached = cache.getAllPresent(distinctIds);
+        if (cached.size() == distinctIds.size()) {
+            return new BulkRetrieveResult<>(new LinkedHashMap<>(cached), new LinkedHashSet<>());
+        }
+        List<UUID> misses = new ArrayList<>(distinctIds.size() - cached.size());
+        for (UUID id : distinctIds) {
+            if (!cached.containsKey(id)) {
+                misses.add(id);
+            }
+        }
+        BulkRetrieveResult<T> retrieved = bulkRetrieveFunction.apply(misses, sqlSession);
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            cache.putAll(retrieved.modelObjects());
+        }
+        Map<UUID, T> modelObjects = new LinkedHashMap<>(distinctIds.size() * 2);
+        for (UUID id : distinctIds) {
+            T modelObject = cached.containsKey(id) ? cached.get(id) : retrieved.modelObjects().get(id);
+            if (modelObject != null) {
+                modelObjects.put(id, modelObject);
+            }
+        }
+        return new BulkRetrieveResult<>(modelObjects, retrieved.missingIds());
+    }
+
+    private void invalidateOnWrite(final Collection<UUID> ids) {
+        cache.invalidateAll(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<UUID> written = List.copyOf(ids);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    cache.invalidateAll(written);
+                }
+            });
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * The <code>DatabaseOperationGroupEvents</code> class decorates a {@link DatabaseOperationGroup} so every operation, from stores, updates and
+ * cascade updates to retrieves and deletes, commits a {@link DatastoreOperationEvent} to Java Flight Recorder.
+ * <p>
+ * When the event is disabled the decorated functions create an event object that the JIT compiler can eliminate and do nothing else. The ID is
+ * formatted and the failure classified only for events that are committed.
+ *
+ * @param <T> The type of model object the operations act on.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class DatabaseOperationGroupEvents<T extends ModelObject> {
+    /**
+     * The outcome of an operation that did not fail.
+     */
+    private static final String SUCCEEDED = "SUCCEEDED";
+    /**
+     * The class of model object the events are tagged with.
+     */
+    private final Class<T> modelClass;
+    /**
+     * Function that returns the ID of a model object.
+     */
+    private final Function<T, UUID> idFunction;
+
+    /**
+     * Base Constructor taking all values as parameters.
+     *
+     * @param modelClass Value of {@link #modelClass}.
+     * @param idFunction Value of {@link #idFunction}.
+     */
+    public DatabaseOperationGroupEvents(final Class<T> modelClass, final Function<T, UUID> idFunction) {
+        this.modelClass = modelClass;
+        this.idFunction = idFunction;
+    }
+
+    /**
+     * Creates a copy of a database operation group whose functions commit flight recorder events. Functions the group does not define are left
+     * unset.
+     *
+     * @param group The database operation group to record.
+     *
+     * @return The database operation group committing flight recorder events.
+     */
+    public DatabaseOperationGroup<T> decorate(final DatabaseOperationGroup<T> group) {
+        DatabaseOperationGroup.Builder<T> builder = group.toBuilder();
+        OperationObservationUtil.decorateOperations(group, builder, idFunction, new EventObserver());
+        return builder.build();
+    }
+
+    /**
+     * The <code>EventObserver</code> class begins an event for each call of the decorated functions and commits it once the call ends.
+     */
+    private final class EventObserver implements OperationObservationUtil.Observer<DatastoreOperationEvent> {
+
+        @Override
+        public DatastoreOperationEvent started(final DatastoreOperation operation) {
+            DatastoreOperationEvent event = new DatastoreOperationEvent();
+            event.begin();
+            return event;
+        }
+
+        @Override
+        public void ended(final DatastoreOperationEvent event, final DatastoreOperation operation, final UUID id, final long elapsedNanos,
+                final int rowCount, final Throwable failure) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.modelClass = modelClass;
+                event.operation = operation.name();
+                event.objectId = id == null ? null : id.toString();
+                event.rowCount = rowCount;
+                event.outcome = failure == null ? SUCCEEDED : SqlStateClassifier.classify(failure).getCategory().name();
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.util.UUID;
+
+/**
+ * The <code>DatabaseOperationGroupMetrics</code> class decorates a {@link DatabaseOperationGroup} so every operation reports its latency, row
+ * count and outcome to a {@link DatastoreMetrics} implementation, tagged by model class and {@link DatastoreOperation}.
+ * <p>
+ * The row count is the number of model objects written or found: one for single object writes, the size of the collection for batch writes, the
+ * number found for retrieves and the number of rows removed for bulk deletes. Failures are reported with the category
+ * {@link SqlStateClassifier#classify(Throwable) classified} from the exception, which is rethrown unchanged.
+ *
+ * @param <T> The type of model object the operations act on.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class DatabaseOperationGroupMetrics<T extends ModelObject> {
+    /**
+     * The class of model object the operations are tagged with.
+     */
+    private final Class<T> modelClass;
+    /**
+     * The metrics implementation the operations report to.
+     */
+    private final DatastoreMetrics metrics;
+
+    /**
+     * Base Constructor taking all values as parameters.
+     *
+     * @param modelClass Value of {@link #modelClass}.
+     * @param metrics Value of {@link #metrics}.
+     */
+    public DatabaseOperationGroupMetrics(final Class<T> modelClass, final DatastoreMetrics metrics) {
+        this.modelClass = modelClass;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Creates a copy of a database operation group whose functions report to the metrics implementation. Functions the group does not define are
+     * left unset.
+     *
+     * @param group The database operation group to measure.
+     *
+     * @return The database operation group reporting metrics.
+     */
+    public DatabaseOperationGroup<T> decorate(final DatabaseOperationGroup<T> group) {
+        DatabaseOperationGroup.Builder<T> builder = group.toBuilder();
+        OperationObservationUtil.decorateOperations(group, builder, null, new MetricsObserver());
+        return builder.build();
+    }
+
+    /**
+     * The <code>MetricsObserver</code> class reports the calls of the decorated functions to the metrics implementation.
+     */
+    private final class MetricsObserver implements OperationObservationUtil.Observer<Void> {
+
+        @Override
+        public Void started(final DatastoreOperation operation) {
+            metrics.started(modelClass, operation);
+            return null;
+        }
+
+        @Override
+        public void ended(final Void context, final DatastoreOperation operation, final UUID id, final long elapsedNanos, final int rowCount,
+                final Throwable failure) {
+            if (failure == null) {
+                metrics.succeeded(modelClass, operation, elapsedNanos, rowCount);
+            } else {
+                metrics.failed(modelClass, operation, elapsedNanos, SqlStateClassifier.classify(failure).getCategory());
+            }
+        }
+    }
+}
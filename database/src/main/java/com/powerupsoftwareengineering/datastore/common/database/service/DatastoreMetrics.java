@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreErrorCategory;
+
+/**
+ * The <code>DatastoreMetrics</code> interface is the service provider interface that database operations report to. Every operation reports
+ * {@link #started} followed by either {@link #succeeded} or {@link #failed}, tagged by the model class and the operation. A {@link RetryExecutor}
+ * reports each transaction it runs again with {@link #retried}, and each transaction that still failed after retrying with
+ * {@link #retriesExhausted}.
+ * <p>
+ * The methods are called on the path of every database operation, from many threads at once. Implementations must not block and should not
+ * allocate once the model class and operation have been seen.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public interface DatastoreMetrics {
+
+    /**
+     * Records that an operation started.
+     *
+     * @param modelClass The class of model object the operation acts on.
+     * @param operation The operation.
+     */
+    void started(Class<?> modelClass, DatastoreOperation operation);
+
+    /**
+     * Records that an operation completed.
+     *
+     * @param modelClass The class of model object the operation acts on.
+     * @param operation The operation.
+     * @param elapsedNanos The time the operation took, in nanoseconds.
+     * @param rowCount The number of model objects written or read.
+     */
+    void succeeded(Class<?> modelClass, DatastoreOperation operation, long elapsedNanos, int rowCount);
+
+    /**
+     * Records that an operation failed.
+     *
+     * @param modelClass The class of model object the operation acts on.
+     * @param operation The operation.
+     * @param elapsedNanos The time until the operation failed, in nanoseconds.
+     * @param errorCategory The category of the failure.
+     */
+    void failed(Class<?> modelClass, DatastoreOperation operation, long elapsedNanos, DatastoreErrorCategory errorCategory);
+
+    /**
+     * Records that a transaction is run again after a transient failure.
+     *
+     * @param errorCategory The category of the failure.
+     */
+    void retried(DatastoreErrorCategory errorCategory);
+
+    /**
+     * Records that a transaction failed with a transient failure after using all allowed attempts or time.
+     *
+     * @param errorCategory The category of the last failure.
+     */
+    void retriesExhausted(DatastoreErrorCategory errorCategory);
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+/**
+ * The <code>DatastoreOperation</code> enum names the operations of a {@link DatabaseOperationGroup}, used to tag metrics and diagnostics.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public enum DatastoreOperation {
+    /**
+     * {@link DatabaseOperationGroup#getStoreFunction()}.
+     */
+    STORE,
+    /**
+     * {@link DatabaseOperationGroup#getBatchStoreFunction()}.
+     */
+    BATCH_STORE,
+    /**
+     * {@link DatabaseOperationGroup#getUpdateFunction()}.
+     */
+    UPDATE,
+    /**
+     * {@link DatabaseOperationGroup#getVersionedUpdateFunction()}.
+     */
+    VERSIONED_UPDATE,
+    /**
+     * {@link DatabaseOperationGroup#getCascadeUpdateFunction()}.
+     */
+    CASCADE_UPDATE,
+    /**
+     * {@link DatabaseOperationGroup#getUpsertFunction()}.
+     */
+    UPSERT,
+    /**
+     * {@link DatabaseOperationGroup#getBatchUpsertFunction()}.
+     */
+    BATCH_UPSERT,
+    /**
+     * {@link DatabaseOperationGroup#getRetrieveFunction()}.
+     */
+    RETRIEVE,
+    /**
+     * {@link DatabaseOperationGroup#getBulkRetrieveFunction()}.
+     */
+    BULK_RETRIEVE,
+    /**
+     * {@link DatabaseOperationGroup#getDeleteFunction()}.
+     */
+    DELETE,
+    /**
+     * {@link DatabaseOperationGroup#getBulkDeleteFunction()}.
+     */
+    BULK_DELETE
+}
\ No newline at end of file
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The <code>DatastoreOperationEvent</code> class is the Java Flight Recorder event committed by {@link DatabaseOperationGroupEvents} for each
+ * operation of a database operation group, so time spent in the database is attributed to a model class and operation rather than to anonymous
+ * JDBC frames.
+ *
+ * @author Chris Picard
+ */
+@Name("com.powerupsoftwareengineering.datastore.Operation")
+@Label("Datastore Operation")
+@Category({"Datastore"})
+@Description("A store, update, cascade update, retrieve or delete of model objects")
+public class DatastoreOperationEvent extends Event {
+    /**
+     * The class of model object the operation acts on.
+     */
+    @Label("Model Class")
+    Class<?> modelClass;
+    /**
+     * The name of the {@link DatastoreOperation}.
+     */
+    @Label("Operation")
+    String operation;
+    /**
+     * The ID of the model object, absent for operations on a collection of model objects.
+     */
+    @Label("Object ID")
+    String objectId;
+    /**
+     * The number of model objects written or found.
+     */
+    @Label("Row Count")
+    int rowCount;
+    /**
+     * <code>SUCCEEDED</code>, or the name of the error category of the failure.
+     */
+    @Label("Outcome")
+    String outcome;
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreSaveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.util.Set;
+import org.apache.ibatis.session.SqlSession;
+
+/**
+ * The <code>DirtyCheckingUpdateFunction</code> class is an {@link UpdateFunction} that compares the updated and existing model objects before
+ * updating. No statement is issued when none of their fields differ, otherwise the names of the changed fields are passed on so the mapper can
+ * build a minimal SET clause. Fields are compared directly rather than through {@link Object#equals(Object)}, which many model objects base on
+ * their ID alone.
+ *
+ * @param <T> The type of model object being updated.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class DirtyCheckingUpdateFunction<T extends ModelObject> implements UpdateFunction<T, SqlSession> {
+    /**
+     * The update function that writes the changed fields of a model object.
+     */
+    private final ChangedFieldUpdateFunction<T, SqlSession> changedFieldUpdateFunction;
+
+    /**
+     * Base Constructor taking all values as parameters.
+     *
+     * @param changedFieldUpdateFunction Value of {@link #changedFieldUpdateFunction}.
+     */
+    public DirtyCheckingUpdateFunction(final ChangedFieldUpdateFunction<T, SqlSession> changedFieldUpdateFunction) {
+        this.changedFieldUpdateFunction = changedFieldUpdateFunction;
+    }
+
+    @Override
+    public void apply(final T updated, final T existing, final SqlSession sqlSession) throws DatastoreSaveException {
+        Set<String> changedFields = ModelObjectDiffUtil.findChangedFields(updated, existing);
+        if (!changedFields.isEmpty()) {
+            changedFieldUpdateFunction.apply(new ChangedFieldParameterGroup<>(updated, changedFields), sqlSession);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnel;
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreRetrieveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import com.powerupsoftwareengineering.lambda.functions.api.TwoParameterFunction;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import org.apache.ibatis.session.SqlSession;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * The <code>ExistenceFilter</code> class lets retrieves of IDs that are known not to exist return without querying the database. It combines a Bloom
+ * filter of every stored ID with a short lived cache of IDs that a retrieve found missing.
+ * <p>
+ * The Bloom filter is only consulted after {@link #load(Iterable)} has been given every ID in the key column, normally through a
+ * {@link org.apache.ibatis.cursor.Cursor} over <code>SELECT id FROM ...</code>. From then on it is kept current by the write functions of the
+ * decorated groups, so it must only be loaded when every insert into the table goes through those groups, for example not when other services
+ * write to the same table. Deleted IDs cannot be removed from the Bloom filter, so deletes add them to the missing ID cache instead, once the
+ * deleting Spring managed transaction commits. The missing ID cache is cleared for an ID whenever it is written, and again when the writing Spring
+ * managed transaction completes.
+ *
+ * @param <T> The type of model object being retrieved.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class ExistenceFilter<T extends ModelObject> {
+    /**
+     * Funnel writing the bits of a UUID into the Bloom filter.
+     */
+    private static final Funnel<UUID> UUID_FUNNEL = (id, sink) -> sink.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+
+    /**
+     * Bloom filter of every stored ID.
+     */
+    private final BloomFilter<UUID> storedIds;
+    /**
+     * Cache of IDs a retrieve found missing.
+     */
+    private final Cache<UUID, Boolean> missingIds;
+    /**
+     * Function that returns the ID of a model object, used to record written model objects.
+     */
+    private final Function<T, UUID> idFunction;
+    /**
+     * Whether the Bloom filter has been loaded and can be used to reject IDs.
+     */
+    private volatile boolean loaded;
+
+    /**
+     * Constructor creating a missing ID cache bounded by the number of entries, with entries expiring a fixed time after they were added.
+     *
+     * @param idFunction Value of {@link #idFunction}.
+     * @param expectedInsertions The number of IDs the Bloom filter is sized for.
+     * @param falsePositiveProbability The probability of the Bloom filter reporting a missing ID as stored once it holds the expected insertions.
+     * @param maximumMissingIds The maximum number of IDs held by the missing ID cache.
+     * @param missingIdTimeToLive The time after being added that an ID is removed from the missing ID cache.
+     */
+    public ExistenceFilter(final Function<T, UUID> idFunction, final long expectedInsertions, final double falsePositiveProbability,
+            final long maximumMissingIds, final Duration missingIdTimeToLive) {
+        this(idFunction, expectedInsertions, falsePositiveProbability,
+                CacheBuilder.newBuilder().maximumSize(maximumMissingIds).expireAfterWrite(missingIdTimeToLive).build());
+    }
+
+    /**
+     * Base Constructor taking all values as parameters.
+     *
+     * @param idFunction Value of {@link #idFunction}.
+     * @param expectedInsertions The number of IDs the Bloom filter is sized for.
+     * @param falsePositiveProbability The probability of the Bloom filter reporting a missing ID as stored once it holds the expected insertions.
+     * @param missingIds Value of {@link #missingIds}.
+     */
+    public ExistenceFilter(final Function<T, UUID> idFunction, final long expectedInsertions, final double falsePositiveProbability,
+            final Cache<UUID, Boolean> missingIds) {
+        this.idFunction = idFunction;
+        this.storedIds = BloomFilter.create(UUID_FUNNEL, expectedInsertions, falsePositiveProbability);
+        this.missingIds = missingIds;
+    }
+
+    /**
+     * Adds the IDs read from the key column to the Bloom filter and starts using it to reject IDs.
+     *
+     * @param ids Every ID in the key column.
+     */
+    public void load(final Iterable<UUID> ids) {
+        for (UUID id : ids) {
+            storedIds.put(id);
+        }
+        loaded = true;
+    }
+
+    /**
+     * Accessor for the {@link #loaded} member variable.
+     *
+     * @return Current value of the {@link #loaded} member variable
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Checks whether an ID is known not to exist.
+     *
+     * @param id The ID to check.
+     *
+     * @return <code>true</code> if the ID is known not to exist, <code>false</code> if it may exist.
+     */
+    public boolean isKnownMissing(final UUID id) {
+        return loaded && !storedIds.mightContain(id) || missingIds.getIfPresent(id) != null;
+    }
+
+    /**
+     * Creates a copy of a database operation group whose retrieve functions skip IDs known not to exist and whose write functions record the written
+     * and deleted IDs.
+     *
+     * @param group The database operation group to place the filter in front of.
+     *
+     * @return The database operation group using this filter.
+     */
+    public DatabaseOperationGroup<T> decorate(final DatabaseOperationGroup<T> group) {
+        DatabaseOperationGroup.Builder<T> builder = group.toBuilder();
+        WriteInvalidationUtil.decorateWrites(group, builder, idFunction, (ids, sqlSession) -> recordWrite(ids),
+                (ids, sqlSession) -> recordDelete(ids));
+        TwoParameterFunction<UUID, SqlSession, T> retrieveFunction = group.getRetrieveFunction();
+        if (retrieveFunction != null) {
+            builder.setRetrieveFunction((id, sqlSession) -> {
+                if (isKnownMissing(id)) {
+                    return null;
+                }
+                T modelObject = retrieveFunction.apply(id, sqlSession);
+                if (modelObject == null) {
+                    missingIds.put(id, Boolean.TRUE);
+                }
+                return modelObject;
+            });
+        }
+        BulkRetrieveFunction<T, SqlSession> bulkRetrieveFunction = group.getBulkRetrieveFunction();
+        if (bulkRetrieveFunction != null) {
+            builder.setBulkRetrieveFunction((ids, sqlSession) -> bulkRetrieve(bulkRetrieveFunction, ids, sqlSession));
+        }
+        return builder.build();
+    }
+
+    private BulkRetrieveResult<T> bulkRetrieve(final BulkRetrieveFunction<T, SqlSession> bulkRetrieveFunction, final Collection<UUID> ids,
+            final SqlSession sqlSession) throws DatastoreRetrieveException {
+        Set<UUID> knownMissing = new LinkedHashSet<>();
+        List<UUID> candidates = new ArrayList<>(ids.size());
+        for (UUID id : new LinkedHashSet<>(ids)) {
+            if (isKnownMissing(id)) {
+                knownMissing.add(id);
+            } else {
+                candidates.add(id);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return new BulkRetrieveResult<>(new LinkedHashMap<>(), knownMissing);
+        }
+        BulkRetrieveResult<T> retrieved = bulkRetrieveFunction.apply(candidates, sqlSession);
+        for (UUID id : retrieved.missingIds()) {
+            missingIds.put(id, Boolean.TRUE);
+        }
+        Set<UUID> missing = new LinkedHashSet<>(retrieved.missingIds());
+        missing.addAll(knownMissing);
+        return new BulkRetrieveResult<>(retrieved.modelObjects(), missing);
+    }
+
+    private void recordWrite(final Collection<UUID> ids) {
+        for (UUID id : ids) {
+            storedIds.put(id);
+        }
+        missingIds.invalidateAll(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<UUID> written = List.copyOf(ids);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    missingIds.invalidateAll(written);
+                }
+            });
+        }
+    }
+
+    private void recordDelete(final Collection<UUID> ids) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markMissing(ids);
+            return;
+        }
+        List<UUID> deleted = List.copyOf(ids);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status == STATUS_COMMITTED) {
+                    markMissing(deleted);
+                } else {
+                    missingIds.invalidateAll(deleted);
+                }
+            }
+        });
+    }
+
+    private void markMissing(final Collection<UUID> ids) {
+        for (UUID id : ids) {
+            missingIds.put(id, Boolean.TRUE);
+        }
+    }
+}
\ No newline at end of file
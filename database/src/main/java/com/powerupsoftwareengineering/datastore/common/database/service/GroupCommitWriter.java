@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreSaveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+
+/**
+ * The <code>GroupCommitWriter</code> class collects the store and update calls of concurrent callers and writes them in one transaction, so a single
+ * commit is paid for many small writes. A group is written once it reaches the maximum group size, or once the maximum delay has passed since its
+ * first write was queued.
+ * <p>
+ * The statements of a group are sent as JDBC batches when it is committed. If any write of a group or its commit fails, the group is rolled back
+ * and each of its writes is repeated in a transaction of its own, so a write that fails is reported to its caller without affecting the rest of the
+ * group.
+ *
+ * @param <T> The type of model object being written.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class GroupCommitWriter<T extends ModelObject> implements AutoCloseable {
+    /**
+     * Marker queued by {@link #close()} after the last accepted write.
+     */
+    private static final PendingWrite CLOSE_MARKER = new PendingWrite(null, null);
+
+    /**
+     * The database operation group whose functions write the model objects.
+     */
+    private final DatabaseOperationGroup<T> group;
+    /**
+     * The factory used to open a sql session for each group.
+     */
+    private final SqlSessionFactory sqlSessionFactory;
+    /**
+     * The maximum number of writes committed together.
+     */
+    private final int maximumGroupSize;
+    /**
+     * The maximum time in nanoseconds a group waits for more writes after its first write was queued.
+     */
+    private final long maximumDelayNanos;
+    /**
+     * The writes waiting to be added to a group.
+     */
+    private final BlockingQueue<PendingWrite> pendingWrites = new LinkedBlockingQueue<>();
+    /**
+     * The executor running the thread that writes the groups.
+     */
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    /**
+     * Lock held while checking {@link #closed} and queuing a write, so no write is queued after the close marker.
+     */
+    private final Object queueLock = new Object();
+    /**
+     * Whether the writer has been closed and no longer accepts writes.
+     */
+    private boolean closed;
+
+    /**
+     * Base Constructor taking all values as parameters.
+     *
+     * @param group Value of {@link #group}.
+     * @param sqlSessionFactory Value of {@link #sqlSessionFactory}.
+     * @param maximumGroupSize Value of {@link #maximumGroupSize}, must be at least one.
+     * @param maximumDelay The maximum time a group waits for more writes after its first write was queued.
+     */
+    public GroupCommitWriter(final DatabaseOperationGroup<T> group, final SqlSessionFactory sqlSessionFactory, final int maximumGroupSize,
+            final Duration maximumDelay) {
+        if (maximumGroupSize < 1) {
+            throw new IllegalArgumentException("Maximum group size must be at least one but was " + maximumGroupSize);
+        }
+        this.group = group;
+        this.sqlSessionFactory = sqlSessionFactory;
+        this.maximumGroupSize = maximumGroupSize;
+        this.maximumDelayNanos = maximumDelay.toNanos();
+        executorService.execute(this::writeGroups);
+    }
+
+    /**
+     * Queues a new model object to be stored using the store function of the group.
+     *
+     * @param modelObject The model object to be stored.
+     *
+     * @return Future completed once the group containing the model object is committed.
+     */
+    public CompletableFuture<Void> store(final T modelObject) {
+        return queue(sqlSession -> group.getStoreFunction().apply(modelObject, sqlSession));
+    }
+
+    /**
+     * Queues an existing model object to be updated using the update function of the group.
+     *
+     * @param updated The updated model object.
+     * @param existing The existing model object.
+     *
+     * @return Future completed once the group containing the model object is committed.
+     */
+    public CompletableFuture<Void> update(final T updated, final T existing) {
+        return queue(sqlSession -> group.getUpdateFunction().apply(updated, existing, sqlSession));
+    }
+
+    /**
+     * Stops accepting writes, then waits for the writes already queued to be committed.
+     */
+    @Override
+    public void close() {
+        synchronized (queueLock) {
+            if (!closed) {
+                closed = true;
+                pendingWrites.add(CLOSE_MARKER);
+            }
+        }
+        executorService.close();
+    }
+
+    private CompletableFuture<Void> queue(final WriteOperation operation) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        synchronized (queueLock) {
+            if (closed) {
+                throw new IllegalStateException("Group commit writer is closed");
+            }
+            pendingWrites.add(new PendingWrite(operation, future));
+        }
+        return future;
+    }
+
+    private void writeGroups() {
+        List<PendingWrite> writes = new ArrayList<>(maximumGroupSize);
+        try {
+            boolean open = true;
+            while (open) {
+                PendingWrite first = pendingWrites.take();
+                if (first == CLOSE_MARKER) {
+                    return;
+                }
+                writes.add(first);
+                open = collect(writes);
+                try {
+                    write(writes);
+                } catch (Throwable e) {
+                    fail(writes, e);
+                }
+                writes.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            synchronized (queueLock) {
+                closed = true;
+            }
+            pendingWrites.drainTo(writes);
+            fail(writes, e);
+        }
+    }
+
+    /**
+     * Adds queued writes to a group until it is full or the maximum delay has passed.
+     *
+     * @param writes The writes of the group, holding at least its first write.
+     *
+     * @return <code>false</code> if the close marker was reached, <code>true</code> otherwise.
+     *
+     * @throws InterruptedException If the thread is interrupted while waiting for more writes.
+     */
+    private boolean collect(final List<PendingWrite> writes) throws InterruptedException {
+        long deadline = System.nanoTime() + maximumDelayNanos;
+        while (writes.size() < maximumGroupSize) {
+            long remaining = deadline - System.nanoTime();
+            PendingWrite next = remaining > 0 ? pendingWrites.poll(remaining, TimeUnit.NANOSECONDS) : pendingWrites.poll();
+            if (next == null) {
+                return true;
+            }
+            if (next == CLOSE_MARKER) {
+                return false;
+            }
+            writes.add(next);
+        }
+        return true;
+    }
+
+    private void write(final List<PendingWrite> writes) {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            for (PendingWrite write : writes) {
+                write.operation().apply(sqlSession);
+            }
+            sqlSession.commit(true);
+        } catch (DatastoreSaveException | RuntimeException e) {
+            if (writes.size() > 1) {
+                for (PendingWrite write : writes) {
+                    write(List.of(write));
+                }
+            } else {
+                fail(writes, e instanceof DatastoreSaveException ? e : new DatastoreSaveException("Unable to commit write", e));
+            }
+            return;
+        }
+        for (PendingWrite write : writes) {
+            write.future().complete(null);
+        }
+    }
+
+    private static void fail(final List<PendingWrite> writes, final Throwable failure) {
+        for (PendingWrite write : writes) {
+            if (write != CLOSE_MARKER) {
+                write.future().completeExceptionally(failure);
+            }
+        }
+    }
+
+    /**
+     * The <code>WriteOperation</code> interface is a call to one of the write functions of the group using a given sql session.
+     */
+    @FunctionalInterface
+    private interface WriteOperation {
+        void apply(SqlSession sqlSession) throws DatastoreSaveException;
+    }
+
+    /**
+     * A write waiting to be added to a group.
+     *
+     * @param operation The call writing the model object.
+     * @param future The future completed once the write is committed.
+     */
+    private record PendingWrite(
+            WriteOperation operation,
+            CompletableFuture<Void> future) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreErrorCategory;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The <code>InMemoryDatastoreMetrics</code> class is a {@link DatastoreMetrics} implementation that keeps a {@link LatencyHistogram}, row count,
+ * in flight gauge and error counts for every operation on every model class, to be read as {@link OperationMetricsSnapshot}s, along with the
+ * retries of each error category.
+ * <p>
+ * The metrics of a model class and operation are created the first time they are reported. After that, recording looks them up without locking
+ * and only updates atomic counters, so it does not allocate.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class InMemoryDatastoreMetrics implements DatastoreMetrics {
+    /**
+     * The operations, indexing the metrics of a model class.
+     */
+    private static final DatastoreOperation[] OPERATIONS = DatastoreOperation.values();
+    /**
+     * The error categories, indexing the error counts.
+     */
+    private static final DatastoreErrorCategory[] ERROR_CATEGORIES = DatastoreErrorCategory.values();
+    /**
+     * The metrics of each model class, indexed by operation ordinal.
+     */
+    private final ConcurrentMap<Class<?>, AtomicReferenceArray<OperationMetrics>> metrics = new ConcurrentHashMap<>();
+    /**
+     * The number of transactions run again, indexed by error category ordinal.
+     */
+    private final AtomicLongArray retryCounts = new AtomicLongArray(ERROR_CATEGORIES.length);
+    /**
+     * The number of transactions that failed after retrying, indexed by error category ordinal.
+     */
+    private final AtomicLongArray retriesExhaustedCounts = new AtomicLongArray(ERROR_CATEGORIES.length);
+
+    @Override
+    public void started(final Class<?> modelClass, final DatastoreOperation operation) {
+        operationMetrics(modelClass, operation).inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void succeeded(final Class<?> modelClass, final DatastoreOperation operation, final long elapsedNanos, final int rowCount) {
+        OperationMetrics operationMetrics = operationMetrics(modelClass, operation);
+        operationMetrics.inFlight.decrementAndGet();
+        operationMetrics.latency.record(elapsedNanos);
+        operationMetrics.rowCount.add(rowCount);
+    }
+
+    @Override
+    public void failed(final Class<?> modelClass, final DatastoreOperation operation, final long elapsedNanos,
+            final DatastoreErrorCategory errorCategory) {
+        OperationMetrics operationMetrics = operationMetrics(modelClass, operation);
+        operationMetrics.inFlight.decrementAndGet();
+        operationMetrics.latency.record(elapsedNanos);
+        operationMetrics.errorCounts.incrementAndGet(errorCategory.ordinal());
+    }
+
+    @Override
+    public void retried(final DatastoreErrorCategory errorCategory) {
+        retryCounts.incrementAndGet(errorCategory.ordinal());
+    }
+
+    @Override
+    public void retriesExhausted(final DatastoreErrorCategory errorCategory) {
+        retriesExhaustedCounts.incrementAndGet(errorCategory.ordinal());
+    }
+
+    /**
+     * Accessor for the number of transactions run again after a transient failure.
+     *
+     * @return The number of retries of each error category that had any
+     */
+    public Map<DatastoreErrorCategory, Long> getRetryCounts() {
+        return counts(retryCounts);
+    }
+
+    /**
+     * Accessor for the number of transactions that still failed with a transient failure after retrying.
+     *
+     * @return The number of exhausted transactions of each error category that had any
+     */
+    public Map<DatastoreErrorCategory, Long> getRetriesExhaustedCounts() {
+        return counts(retriesExhaustedCounts);
+    }
+
+    /**
+     * Takes a snapshot of the metrics of one operation on one model class.
+     *
+     * @param modelClass The class of model object the operation acts on.
+     * @param operation The operation.
+     *
+     * @return The snapshot, or <code>null</code> if the operation has not been reported for the model class.
+     */
+    public OperationMetricsSnapshot getSnapshot(final Class<?> modelClass, final DatastoreOperation operation) {
+        AtomicReferenceArray<OperationMetrics> classMetrics = metrics.get(modelClass);
+        if (classMetrics == null) {
+            return null;
+        }
+        OperationMetrics operationMetrics = classMetrics.get(operation.ordinal());
+        return operationMetrics == null ? null : snapshot(modelClass, operation, operationMetrics);
+    }
+
+    /**
+     * Takes a snapshot of the metrics of every operation reported so far.
+     *
+     * @return The snapshots, in no particular order of model class and in declaration order of operation.
+     */
+    public List<OperationMetricsSnapshot> getSnapshots() {
+        List<OperationMetricsSnapshot> snapshots = new ArrayList<>();
+        metrics.forEach((modelClass, classMetrics) -> {
+            for (DatastoreOperation operation : OPERATIONS) {
+                OperationMetrics operationMetrics = classMetrics.get(operation.ordinal());
+                if (operationMetrics != null) {
+                    snapshots.add(snapshot(modelClass, operation, operationMetrics));
+                }
+            }
+        });
+        return snapshots;
+    }
+
+    /**
+     * Discards all recorded metrics.
+     */
+    public void reset() {
+        metrics.clear();
+        for (int index = 0; index < ERROR_CATEGORIES.length; index++) {
+            retryCounts.set(index, 0);
+            retriesExhaustedCounts.set(index, 0);
+        }
+    }
+
+    private OperationMetrics operationMetrics(final Class<?> modelClass, final DatastoreOperation operation) {
+        AtomicReferenceArray<OperationMetrics> classMetrics = metrics.get(modelClass);
+        if (classMetrics == null) {
+            classMetrics = metrics.computeIfAbsent(modelClass, key -> new AtomicReferenceArray<>(OPERATIONS.length));
+        }
+        OperationMetrics operationMetrics = classMetrics.get(operation.ordinal());
+        if (operationMetrics == null) {
+            classMetrics.compareAndSet(operation.ordinal(), null, new OperationMetrics());
+            operationMetrics = classMetrics.get(operation.ordinal());
+        }
+        return operationMetrics;
+    }
+
+    private static OperationMetricsSnapshot snapshot(final Class<?> modelClass, final DatastoreOperation operation,
+            final OperationMetrics operationMetrics) {
+        return new OperationMetricsSnapshot(modelClass, operation, operationMetrics.latency.copy(), operationMetrics.rowCount.sum(),
+                operationMetrics.inFlight.get(), counts(operationMetrics.errorCounts));
+    }
+
+    private static Map<DatastoreErrorCategory, Long> counts(final AtomicLongArray countsByCategory) {
+        Map<DatastoreErrorCategory, Long> counts = new EnumMap<>(DatastoreErrorCategory.class);
+        for (DatastoreErrorCategory errorCategory : ERROR_CATEGORIES) {
+            long count = countsByCategory.get(errorCategory.ordinal());
+            if (count > 0) {
+                counts.put(errorCategory, count);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * The counters of one operation on one model class.
+     */
+    private static final class OperationMetrics {
+        /**
+         * The latencies of completed and failed operations.
+         */
+        private final LatencyHistogram latency = new LatencyHistogram();
+        /**
+         * The number of model objects written or read.
+         */
+        private final LongAdder rowCount = new LongAdder();
+        /**
+         * The number of operations in flight.
+         */
+        private final AtomicLong inFlight = new AtomicLong();
+        /**
+         * The number of failures, indexed by error category ordinal.
+         */
+        private final AtomicLongArray errorCounts = new AtomicLongArray(ERROR_CATEGORIES.length);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import java.util.List;
+
+/**
+ * The <code>KeysetPage</code> class is one page of model objects returned by a {@link KeysetPaginator}.
+ *
+ * @param <T> The type of model object in the page
+ * @param modelObjects The model objects in the page, in sort key and ID order.
+ * @param continuationToken The opaque token used to retrieve the next page, <code>null</code> when this is the last page.
+ *
+ * @author Chris Picard
+ */
+public record KeysetPage<T>(
+        List<T> modelObjects,
+        String continuationToken) {
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import java.util.UUID;
+
+/**
+ * The <code>KeysetPageParameterGroup</code> class is the parameter passed to a mapper statement that retrieves one page of model objects ordered by a
+ * sort key and ID, for example <code>SELECT ... FROM item &lt;if test="id != null"&gt;WHERE (created, id) &gt; (#{sortKey}, #{id})&lt;/if&gt; ORDER
+ * BY created, id LIMIT #{limit}</code>. The ID is bound through the registered UUID type handler like any other ID parameter.
+ *
+ * @param <K> The type of the sort key
+ * @param sortKey The sort key of the last model object of the previous page, <code>null</code> for the first page.
+ * @param id The ID of the last model object of the previous page, <code>null</code> for the first page.
+ * @param limit The maximum number of rows the statement may return.
+ *
+ * @author Chris Picard
+ */
+public record KeysetPageParameterGroup<K>(
+        K sortKey,
+        UUID id,
+        int limit) {
+}
\ No newline at end of file
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreRetrieveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import com.powerupsoftwareengineering.lambda.functions.api.TwoParameterFunction;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.SqlSession;
+
+/**
+ * The <code>KeysetPaginator</code> class retrieves model objects one page at a time using the sort key and ID of the last model object of the
+ * previous page, rather than an offset, so every page costs the same index seek regardless of how deep it is. The mapper statement receives a
+ * {@link KeysetPageParameterGroup} and must order by the sort key and then the ID, which should be backed by an index on both columns.
+ * <p>
+ * The position of the next page is returned to the caller as an opaque continuation token holding the encoded sort key and ID of the last model
+ * object of the page. Sort keys must not be <code>null</code>.
+ *
+ * @param <T> The type of model object being retrieved.
+ * @param <K> The type of the sort key.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class KeysetPaginator<T extends ModelObject, K> {
+    /**
+     * The number of characters in the string form of a UUID, which starts every decoded continuation token.
+     */
+    private static final int UUID_LENGTH = 36;
+
+    /**
+     * The function that retrieves the model objects following the position in the parameter group.
+     */
+    private final TwoParameterFunction<KeysetPageParameterGroup<K>, SqlSession, List<T>> pageFunction;
+    /**
+     * Function that returns the sort key of a model object.
+     */
+    private final Function<T, K> sortKeyFunction;
+    /**
+     * Function that returns the ID of a model object.
+     */
+    private final Function<T, UUID> idFunction;
+    /**
+     * Function that converts a sort key to the string stored in a continuation token.
+     */
+    private final Function<K, String> sortKeyEncoder;
+    /**
+     * Function that converts the string stored in a continuation token back to a sort key.
+     */
+    private final Function<String, K> sortKeyDecoder;
+
+    /**
+     * Base Constructor taking all values as parameters.
+     *
+     * @param pageFunction Value of {@link #pageFunction}.
+     * @param sortKeyFunction Value of {@link #sortKeyFunction}.
+     * @param idFunction Value of {@link #idFunction}.
+     * @param sortKeyEncoder Value of {@link #sortKeyEncoder}.
+     * @param sortKeyDecoder Value of {@link #sortKeyDecoder}.
+     */
+    public KeysetPaginator(final TwoParameterFunction<KeysetPageParameterGroup<K>, SqlSession, List<T>> pageFunction,
+            final Function<T, K> sortKeyFunction, final Function<T, UUID> idFunction, final Function<K, String> sortKeyEncoder,
+            final Function<String, K> sortKeyDecoder) {
+        this.pageFunction = pageFunction;
+        this.sortKeyFunction = sortKeyFunction;
+        this.idFunction = idFunction;
+        this.sortKeyEncoder = sortKeyEncoder;
+        this.sortKeyDecoder = sortKeyDecoder;
+    }
+
+    /**
+     * Retrieves the page of model objects following the position in a continuation token. One more row than the page size is requested so the last
+     * page is recognised without an additional query.
+     *
+     * @param continuationToken The token returned with the previous page, or <code>null</code> to retrieve the first page.
+     * @param pageSize The maximum number of model objects in the page, must be at least one.
+     * @param sqlSession The sql session to use to perform the retrieve operation.
+     *
+     * @return The page of model objects.
+     *
+     * @throws DatastoreRetrieveException Unable to retrieve the page.
+     */
+    public KeysetPage<T> retrieve(final String continuationToken, final int pageSize, final SqlSession sqlSession) throws DatastoreRetrieveException {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least one but was " + pageSize);
+        }
+        KeysetPageParameterGroup<K> parameterGroup = continuationToken == null
+                ? new KeysetPageParameterGroup<>(null, null, pageSize + 1)
+                : decode(continuationToken, pageSize + 1);
+        List<T> modelObjects;
+        try {
+            modelObjects = pageFunction.apply(parameterGroup, sqlSession);
+        } catch (PersistenceException e) {
+            throw new DatastoreRetrieveException("Unable to retrieve page after " + parameterGroup.id(), e);
+        }
+        if (modelObjects.size() <= pageSize) {
+            return new KeysetPage<>(List.copyOf(modelObjects), null);
+        }
+        List<T> page = List.copyOf(modelObjects.subList(0, pageSize));
+        return new KeysetPage<>(page, encode(page.get(pageSize - 1)));
+    }
+
+    private String encode(final T modelObject) {
+        String position = idFunction.apply(modelObject) + ":" + sortKeyEncoder.apply(sortKeyFunction.apply(modelObject));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private KeysetPageParameterGroup<K> decode(final String continuationToken, final int limit) {
+        String position;
+        try {
+            position = new String(Base64.getUrlDecoder().decode(continuationToken), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid continuation token " + continuationToken, e);
+        }
+        if (position.length() <= UUID_LENGTH || position.charAt(UUID_LENGTH) != ':') {
+            throw new IllegalArgumentException("Invalid continuation token " + continuationToken);
+        }
+        UUID id = UUID.fromString(position.substring(0, UUID_LENGTH));
+        return new KeysetPageParameterGroup<>(sortKeyDecoder.apply(position.substring(UUID_LENGTH + 1)), id, limit);
+    }
+}
\ No newline at end of file
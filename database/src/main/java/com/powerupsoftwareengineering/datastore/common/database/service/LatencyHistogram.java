@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The <code>LatencyHistogram</code> class is a fixed size, lock free histogram of latencies in nanoseconds, bucketed the same way as an HDR
+ * histogram. Values below 64 have a bucket each; above that every power of two is split into 32 linear buckets, so a recorded value is reported
+ * within about 3% of its true value. Values above about 18 minutes are recorded as 18 minutes.
+ * <p>
+ * {@link #record(long)} updates atomic counters only, and never locks or allocates. Reads are not atomic with respect to concurrent recording, so
+ * a percentile can reflect some but not all of the values recorded while it is being computed.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public final class LatencyHistogram {
+    /**
+     * The number of buckets each power of two is split into.
+     */
+    private static final int SUB_BUCKET_COUNT = 32;
+    /**
+     * The values below which every value has its own bucket.
+     */
+    private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT * 2;
+    /**
+     * The number of bits in {@link #LINEAR_LIMIT}, less one.
+     */
+    private static final int LINEAR_BITS = 5;
+    /**
+     * The largest value that is recorded as itself.
+     */
+    private static final long HIGHEST_TRACKABLE_VALUE = (1L << 40) - 1;
+    /**
+     * The number of values recorded in each bucket.
+     */
+    private final AtomicLongArray counts = new AtomicLongArray(bucketIndex(HIGHEST_TRACKABLE_VALUE) + 1);
+    /**
+     * The sum of the recorded values.
+     */
+    private final AtomicLong total = new AtomicLong();
+    /**
+     * The largest recorded value.
+     */
+    private final AtomicLong maximum = new AtomicLong();
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos The latency in nanoseconds. Negative values are recorded as zero.
+     */
+    public void record(final long nanos) {
+        long value = Math.min(Math.max(nanos, 0), HIGHEST_TRACKABLE_VALUE);
+        counts.incrementAndGet(bucketIndex(value));
+        total.addAndGet(value);
+        long current = maximum.get();
+        while (value > current && !maximum.compareAndSet(current, value)) {
+            current = maximum.get();
+        }
+    }
+
+    /**
+     * Counts the recorded values.
+     *
+     * @return The number of recorded values.
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Accessor for the {@link #maximum} member variable.
+     *
+     * @return Current value of the {@link #maximum} member variable
+     */
+    public long getMaximum() {
+        return maximum.get();
+    }
+
+    /**
+     * Calculates the mean of the recorded values.
+     *
+     * @return The mean in nanoseconds, zero if nothing has been recorded.
+     */
+    public double getMean() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) total.get() / count;
+    }
+
+    /**
+     * Finds the value at or below which a percentage of the recorded values fall.
+     *
+     * @param percentile The percentage, between 0 and 100.
+     *
+     * @return The highest value in the bucket holding the percentile, capped at the largest recorded value, or zero if nothing has been recorded.
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        long count = getCount();
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long cumulative = 0;
+        long value = 0;
+        for (int i = 0; i < counts.length() && cumulative < target; i++) {
+            long bucketCount = counts.get(i);
+            if (bucketCount > 0) {
+                cumulative += bucketCount;
+                value = highestEquivalentValue(i);
+            }
+        }
+        return Math.min(value, maximum.get());
+    }
+
+    /**
+     * Copies the histogram, so values can be read without later recording changing them.
+     *
+     * @return A new histogram holding the values recorded so far.
+     */
+    public LatencyHistogram copy() {
+        LatencyHistogram copy = new LatencyHistogram();
+        for (int i = 0; i < counts.length(); i++) {
+            copy.counts.set(i, counts.get(i));
+        }
+        copy.total.set(total.get());
+        copy.maximum.set(maximum.get());
+        return copy;
+    }
+
+    private static int bucketIndex(final long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - LINEAR_BITS;
+        return shift * SUB_BUCKET_COUNT + (int) (value >>> shift);
+    }
+
+    private static long highestEquivalentValue(final int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreDeleteException;
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreSaveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.SqlSession;
+
+/**
+ * The <code>LevelBatchCascadeExecutor</code> class writes the differences between two versions of a model graph level by level instead of depth
+ * first. The graph is walked breadth first, and at each level the pending inserts, updates and deletes are grouped by model class, so each group is
+ * written with consecutive calls of the same statement and flushed as one JDBC batch when the sql session uses
+ * {@link org.apache.ibatis.session.ExecutorType#BATCH}.
+ * <p>
+ * Deletes and updates run first, from the deepest level up, so children are removed before their parents. Inserts then run from the root level
+ * down so parents exist before their children. Children are matched by ID with {@link ChildDiff}, and every matched child is walked, while
+ * model objects whose {@link StructuralHashUtil structural hash} is unchanged are not written nor walked further. A changed model object is only
+ * updated when its own fields differ, as found by {@link ModelObjectDiffUtil#hasChangedOwnFields(Object, Object)}, since a change anywhere below
+ * it also changes its hash. Inserts use the batch store function of a group and deletes its bulk delete function when it has one.
+ * <p>
+ * To keep concurrent cascades from deadlocking, row locks are always taken in the same order: within a level the groups are written in order of
+ * model class name, which stands in for the table, and the deletes and updates of each group as one sequence in
+ * {@link LockOrderUtil#ID_ORDER order of ID}, so two cascades deleting and updating the same rows lock them in the same order whichever of the two
+ * each makes. Consecutive deletes of a group use its bulk delete function when it has one. Inserts only lock the new rows, and are written in order
+ * of ID as well.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class LevelBatchCascadeExecutor {
+    /**
+     * The order in which the groups of a level are written, by model class name.
+     */
+    private static final Comparator<CascadeNodeType<?>> LOCK_ORDER = Comparator.comparing(nodeType -> nodeType.modelClass().getName());
+
+    /**
+     * The registered node types, keyed by model class.
+     */
+    private final Map<Class<?>, CascadeNodeType<?>> nodeTypes = new ConcurrentHashMap<>();
+
+    /**
+     * Base Constructor taking all values as parameters.
+     *
+     * @param nodeTypes The node types of every class of model object in the graph.
+     */
+    public LevelBatchCascadeExecutor(final Collection<CascadeNodeType<?>> nodeTypes) {
+        for (CascadeNodeType<?> nodeType : nodeTypes) {
+            this.nodeTypes.put(nodeType.modelClass(), nodeType);
+        }
+    }
+
+    /**
+     * Writes the differences between two versions of a model graph. A <code>null</code> existing root stores the whole updated graph, and a
+     * <code>null</code> updated root deletes the whole existing graph.
+     *
+     * @param updated The root of the updated graph, or <code>null</code> to delete the existing graph.
+     * @param existing The root of the existing graph, or <code>null</code> to store the updated graph.
+     * @param sqlSession The sql session to use to write the graph.
+     *
+     * @throws DatastoreSaveException Unable to write the graph.
+     */
+    public void execute(final ModelObject updated, final ModelObject existing, final SqlSession sqlSession) throws DatastoreSaveException {
+        List<Level> levels = plan(updated, existing);
+        try {
+            for (int depth = levels.size() - 1; depth >= 0; depth--) {
+                for (Map.Entry<CascadeNodeType<?>, List<NodeVersions>> group : levels.get(depth).changes().entrySet()) {
+                    change(group.getKey(), group.getValue(), sqlSession);
+                    sqlSession.flushStatements();
+                }
+            }
+            for (Level level : levels) {
+                for (Map.Entry<CascadeNodeType<?>, List<ModelObject>> group : level.inserts().entrySet()) {
+                    store(group.getKey(), group.getValue(), sqlSession);
+                    sqlSession.flushStatements();
+                }
+            }
+        } catch (DatastoreDeleteException | PersistenceException e) {
+            throw new DatastoreSaveException("Unable to write cascade of " + levels.size() + " levels", e);
+        }
+    }
+
+    private List<Level> plan(final ModelObject updated, final ModelObject existing) {
+        List<Level> levels = new ArrayList<>();
+        List<NodeVersions> frontier = List.of(new NodeVersions(updated, existing));
+        while (!frontier.isEmpty()) {
+            Level level = new Level(new TreeMap<>(LOCK_ORDER), new TreeMap<>(LOCK_ORDER));
+            List<NodeVersions> next = new ArrayList<>();
+            for (NodeVersions versions : frontier) {
+                planNode(versions, level, next);
+            }
+            if (!level.isEmpty()) {
+                levels.add(level);
+            }
+            frontier = next;
+        }
+        return levels;
+    }
+
+    private void planNode(final NodeVersions versions, final Level level, final List<NodeVersions> next) {
+        ModelObject updated = versions.updated();
+        ModelObject existing = versions.existing();
+        if (updated == null && existing == null || StructuralHashUtil.isUnchanged(updated, existing)) {
+            return;
+        }
+        if (existing == null) {
+            level.inserts().computeIfAbsent(findNodeType(updated), nodeType -> new ArrayList<>()).add(updated);
+            for (ModelObject child : findChildren(updated)) {
+                next.add(new NodeVersions(child, null));
+            }
+        } else if (updated == null) {
+            level.changes().computeIfAbsent(findNodeType(existing), nodeType -> new ArrayList<>()).add(versions);
+            for (ModelObject child : findChildren(existing)) {
+                next.add(new NodeVersions(null, child));
+            }
+        } else {
+            if (ModelObjectDiffUtil.hasChangedOwnFields(updated, existing)) {
+                level.changes().computeIfAbsent(findNodeType(updated), nodeType -> new ArrayList<>()).add(versions);
+            }
+            ChildDiff<ModelObject> diff = ChildDiff.of(findChildren(updated), findChildren(existing), this::findId);
+            for (ModelObject child : diff.added()) {
+                next.add(new NodeVersions(child, null));
+            }
+            for (ModelObject child : diff.removed()) {
+                next.add(new NodeVersions(null, child));
+            }
+            for (ChildUpdate<ModelObject> child : diff.changed()) {
+                next.add(new NodeVersions(child.updated(), child.existing()));
+            }
+            for (ChildUpdate<ModelObject> child : diff.unchanged()) {
+                next.add(new NodeVersions(child.updated(), child.existing()));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends ModelObject> CascadeNodeType<T> findNodeType(final T modelObject) {
+        CascadeNodeType<?> nodeType = nodeTypes.get(modelObject.getClass());
+        if (nodeType == null) {
+            for (Class<?> type = modelObject.getClass().getSuperclass(); type != null && nodeType == null; type = type.getSuperclass()) {
+                nodeType = nodeTypes.get(type);
+            }
+            if (nodeType == null) {
+                throw new IllegalArgumentException("No cascade node type registered for " + modelObject.getClass().getName());
+            }
+            nodeTypes.put(modelObject.getClass(), nodeType);
+        }
+        return (CascadeNodeType<T>) nodeType;
+    }
+
+    private <T extends ModelObject> UUID findId(final T modelObject) {
+        return findNodeType(modelObject).idFunction().apply(modelObject);
+    }
+
+    private <T extends ModelObject> List<ModelObject> findChildren(final T modelObject) {
+        Collection<? extends ModelObject> children = findNodeType(modelObject).childrenFunction().apply(modelObject);
+        return children == null ? List.of() : List.copyOf(children);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends ModelObject> void store(final CascadeNodeType<T> nodeType, final List<ModelObject> modelObjects,
+            final SqlSession sqlSession) throws DatastoreSaveException {
+        List<T> typed = sortById(nodeType, (List<T>) modelObjects);
+        BatchStoreFunction<T, SqlSession> batchStoreFunction = nodeType.group().getBatchStoreFunction();
+        if (batchStoreFunction != null) {
+            batchStoreFunction.apply(typed, sqlSession);
+            return;
+        }
+        for (T modelObject : typed) {
+            nodeType.group().getStoreFunction().apply(modelObject, sqlSession);
+        }
+    }
+
+    /**
+     * Writes the deletes and updates of one group as a single sequence in order of ID.
+     *
+     * @param <T> The type of model object being written.
+     * @param nodeType The node type of the group.
+     * @param changes The nodes to delete, with no updated version, and the nodes to update.
+     * @param sqlSession The sql session to use to write the nodes.
+     *
+     * @throws DatastoreSaveException Unable to update a node.
+     * @throws DatastoreDeleteException Unable to delete a node.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends ModelObject> void change(final CascadeNodeType<T> nodeType, final List<NodeVersions> changes,
+            final SqlSession sqlSession) throws DatastoreSaveException, DatastoreDeleteException {
+        List<NodeVersions> sorted = new ArrayList<>(changes);
+        sorted.sort(Comparator.comparing(versions -> nodeType.idFunction().apply((T) versions.existing()), LockOrderUtil.ID_ORDER));
+        List<T> deletes = new ArrayList<>();
+        for (NodeVersions versions : sorted) {
+            if (versions.updated() == null) {
+                deletes.add((T) versions.existing());
+            } else {
+                delete(nodeType, deletes, sqlSession);
+                nodeType.group().getUpdateFunction().apply((T) versions.updated(), (T) versions.existing(), sqlSession);
+            }
+        }
+        delete(nodeType, deletes, sqlSession);
+    }
+
+    /**
+     * Deletes a run of consecutive nodes of one group and empties the run.
+     *
+     * @param <T> The type of model object being deleted.
+     * @param nodeType The node type of the group.
+     * @param deletes The nodes to delete, in order of ID.
+     * @param sqlSession The sql session to use to delete the nodes.
+     *
+     * @throws DatastoreDeleteException Unable to delete a node.
+     */
+    private static <T extends ModelObject> void delete(final CascadeNodeType<T> nodeType, final List<T> deletes, final SqlSession sqlSession)
+            throws DatastoreDeleteException {
+        if (deletes.isEmpty()) {
+            return;
+        }
+        BulkDeleteFunction<SqlSession> bulkDeleteFunction = nodeType.group().getBulkDeleteFunction();
+        if (bulkDeleteFunction != null) {
+            List<UUID> ids = new ArrayList<>(deletes.size());
+            for (T modelObject : deletes) {
+                ids.add(nodeType.idFunction().apply(modelObject));
+            }
+            bulkDeleteFunction.apply(ids, sqlSession);
+        } else {
+            for (T modelObject : deletes) {
+                nodeType.group().getDeleteFunction().apply(modelObject, sqlSession);
+            }
+        }
+        deletes.clear();
+    }
+
+    private static <T extends ModelObject> List<T> sortById(final CascadeNodeType<T> nodeType, final List<T> modelObjects) {
+        List<T> sorted = new ArrayList<>(modelObjects);
+        sorted.sort(Comparator.comparing(nodeType.idFunction(), LockOrderUtil.ID_ORDER));
+        return sorted;
+    }
+
+    /**
+     * The updated and existing versions of a node of the graph waiting to be planned.
+     *
+     * @param updated The updated version of the node, or <code>null</code> when the node was removed.
+     * @param existing The existing version of the node, or <code>null</code> when the node was added.
+     */
+    private record NodeVersions(
+            ModelObject updated,
+            ModelObject existing) {
+    }
+
+    /**
+     * The writes planned for one level of the graph, grouped by node type.
+     *
+     * @param inserts The model objects to store.
+     * @param changes The nodes to delete, with no updated version, and the nodes to update.
+     */
+    private record Level(
+            Map<CascadeNodeType<?>, List<ModelObject>> inserts,
+            Map<CascadeNodeType<?>, List<NodeVersions>> changes) {
+
+        boolean isEmpty() {
+            return inserts.isEmpty() && changes.isEmpty();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * The <code>LockOrderUtil</code> class holds the canonical order in which writes of model objects are issued, so concurrent writers over
+ * overlapping rows take their row locks in the same order instead of deadlocking.
+ *
+ * @author Chris Picard
+ */
+final class LockOrderUtil {
+    /**
+     * Orders IDs by their bits read as one unsigned 128 bit number, which is also the order of their string form and the order PostgreSQL sorts
+     * <code>uuid</code> values in. {@link UUID#compareTo(UUID)} compares signed halves instead, so it places IDs with the high bit set first.
+     */
+    static final Comparator<UUID> ID_ORDER = LockOrderUtil::compareIds;
+
+    private LockOrderUtil() {
+    }
+
+    private static int compareIds(final UUID first, final UUID second) {
+        int result = Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(first.getLeastSignificantBits(), second.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.InaccessibleObjectException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The <code>ModelObjectDiffUtil</code> class compares two versions of a model object field by field. The fields of each model object class are
+ * looked up once and cached, so a comparison only costs the field reads and equality checks.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public final class ModelObjectDiffUtil {
+    /**
+     * The instance fields, including inherited ones, that are compared for each class.
+     */
+    private static final ClassValue<List<Field>> COMPARED_FIELDS = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(final Class<?> type) {
+            return findComparedFields(type);
+        }
+    };
+
+    private ModelObjectDiffUtil() {
+    }
+
+    /**
+     * Finds the names of the fields whose values differ between two versions of a model object. Static, transient and synthetic fields are ignored.
+     * When the two versions are not of the same class, or the fields cannot be read, every field of the updated version is reported as changed.
+     *
+     * @param updated The updated version of the model object.
+     * @param existing The existing version of the model object.
+     *
+     * @return The names of the changed fields, in declaration order with subclass fields first. Empty when the versions are equal.
+     */
+    public static Set<String> findChangedFields(final Object updated, final Object existing) {
+        Set<String> changedFields = new LinkedHashSet<>();
+        if (updated == existing) {
+            return changedFields;
+        }
+        List<Field> fields = COMPARED_FIELDS.get(updated.getClass());
+        boolean sameClass = existing != null && updated.getClass() == existing.getClass();
+        for (Field field : fields) {
+            if (!sameClass || !Objects.deepEquals(read(field, updated), read(field, existing))) {
+                changedFields.add(field.getName());
+            }
+        }
+        return changedFields;
+    }
+
+    /**
+     * Checks whether the fields of a model object itself differ between two versions of it. Fields holding other model objects, directly, in a
+     * collection or as map values, hold the children of the model object in a model graph and are ignored, so a change further down the graph does
+     * not count as a change of the model object. When the two versions are not of the same class they are reported as changed.
+     *
+     * @param updated The updated version of the model object.
+     * @param existing The existing version of the model object.
+     *
+     * @return <code>true</code> if a field not holding model objects differs, <code>false</code> otherwise.
+     */
+    public static boolean hasChangedOwnFields(final Object updated, final Object existing) {
+        if (updated == existing) {
+            return false;
+        }
+        if (existing == null || updated.getClass() != existing.getClass()) {
+            return true;
+        }
+        boolean changed = false;
+        for (Field field : COMPARED_FIELDS.get(updated.getClass())) {
+            Object updatedValue = read(field, updated);
+            Object existingValue = read(field, existing);
+            if (!holdsModelObjects(updatedValue) && !holdsModelObjects(existingValue) && !Objects.deepEquals(updatedValue, existingValue)) {
+                changed = true;
+                break;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Accessor for the cached instance fields of a class, including inherited ones. Static, transient and synthetic fields are excluded.
+     *
+     * @param type The class whose fields are returned.
+     *
+     * @return The fields, in declaration order with subclass fields first.
+     */
+    static List<Field> findFields(final Class<?> type) {
+        return COMPARED_FIELDS.get(type);
+    }
+
+    /**
+     * Reads the value of a field made accessible by {@link #findFields(Class)}.
+     *
+     * @param field The field to read.
+     * @param instance The object to read the field from.
+     *
+     * @return The value of the field.
+     */
+    static Object read(final Field field, final Object instance) {
+        try {
+            return field.get(instance);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Unable to read field " + field.getName() + " of " + instance.getClass().getName(), e);
+        }
+    }
+
+    private static boolean holdsModelObjects(final Object value) {
+        if (value instanceof ModelObject) {
+            return true;
+        }
+        Iterable<?> elements = List.of();
+        if (value instanceof Collection<?> collection) {
+            elements = collection;
+        } else if (value instanceof Map<?, ?> map) {
+            elements = map.values();
+        } else if (value instanceof Object[] array) {
+            elements = Arrays.asList(array);
+        }
+        for (Object element : elements) {
+            if (element instanceof ModelObject) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Field> findComparedFields(final Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic()) {
+                    try {
+                        field.setAccessible(true);
+                    } catch (InaccessibleObjectException e) {
+                        throw new IllegalStateException("Unable to compare field " + field.getName() + " of " + type.getName(), e);
+                    }
+                    fields.add(field);
+                }
+            }
+        }
+        return List.copyOf(fields);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreErrorCategory;
+
+/**
+ * The <code>NoOpDatastoreMetrics</code> class is the default {@link DatastoreMetrics} implementation, which discards everything it is given.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public final class NoOpDatastoreMetrics implements DatastoreMetrics {
+    /**
+     * The shared instance.
+     */
+    public static final NoOpDatastoreMetrics INSTANCE = new NoOpDatastoreMetrics();
+
+    private NoOpDatastoreMetrics() {
+    }
+
+    @Override
+    public void started(final Class<?> modelClass, final DatastoreOperation operation) {
+    }
+
+    @Override
+    public void succeeded(final Class<?> modelClass, final DatastoreOperation operation, final long elapsedNanos, final int rowCount) {
+    }
+
+    @Override
+    public void failed(final Class<?> modelClass, final DatastoreOperation operation, final long elapsedNanos,
+            final DatastoreErrorCategory errorCategory) {
+    }
+
+    @Override
+    public void retried(final DatastoreErrorCategory errorCategory) {
+    }
+
+    @Override
+    public void retriesExhausted(final DatastoreErrorCategory errorCategory) {
+    }
+}
\ No newline at end of file
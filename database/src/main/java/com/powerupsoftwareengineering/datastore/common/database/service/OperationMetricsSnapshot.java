@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreErrorCategory;
+import java.util.Map;
+
+/**
+ * The <code>OperationMetricsSnapshot</code> class holds the metrics recorded by {@link InMemoryDatastoreMetrics} for one operation on one model
+ * class, at the time the snapshot was taken.
+ *
+ * @param modelClass The class of model object the operation acts on.
+ * @param operation The operation.
+ * @param latency The latencies of completed and failed operations.
+ * @param rowCount The number of model objects written or read by completed operations.
+ * @param inFlight The number of operations started but not yet completed or failed.
+ * @param errorCounts The number of failed operations by error category, holding only categories that occurred.
+ *
+ * @author Chris Picard
+ */
+public record OperationMetricsSnapshot(
+        Class<?> modelClass,
+        DatastoreOperation operation,
+        LatencyHistogram latency,
+        long rowCount,
+        long inFlight,
+        Map<DatastoreErrorCategory, Long> errorCounts) {
+}
\ No newline at end of file
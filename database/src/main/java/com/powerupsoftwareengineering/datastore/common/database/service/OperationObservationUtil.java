@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import com.powerupsoftwareengineering.lambda.functions.api.TwoParameterFunction;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import org.apache.ibatis.session.SqlSession;
+
+/**
+ * The <code>OperationObservationUtil</code> class wraps every function of a {@link DatabaseOperationGroup} so an {@link Observer} is told when each
+ * call starts and how it ended, for decorators that measure or record the operations.
+ *
+ * @author Chris Picard
+ */
+final class OperationObservationUtil {
+
+    private OperationObservationUtil() {
+    }
+
+    /**
+     * Replaces every function of a group in a builder with one that reports its calls to an observer. Failures are reported and then rethrown
+     * unchanged. Functions the group does not define are left unset.
+     *
+     * @param <T> The type of model object the operations act on.
+     * @param <C> The type of context the observer carries from the start of a call to its end.
+     * @param group The database operation group whose functions are wrapped.
+     * @param builder The builder receiving the wrapped functions.
+     * @param idFunction Function that returns the ID of a model object, or <code>null</code> when the observer does not use the ID of single
+     *         model object writes.
+     * @param observer The observer told about each call.
+     */
+    static <T extends ModelObject, C> void decorateOperations(final DatabaseOperationGroup<T> group, final DatabaseOperationGroup.Builder<T> builder,
+            final Function<T, UUID> idFunction, final Observer<C> observer) {
+        decorateStores(group, builder, idFunction, observer);
+        decorateUpdates(group, builder, idFunction, observer);
+        decorateRetrieves(group, builder, observer);
+        decorateDeletes(group, builder, idFunction, observer);
+    }
+
+    private static <T extends ModelObject, C> void decorateStores(final DatabaseOperationGroup<T> group,
+            final DatabaseOperationGroup.Builder<T> builder, final Function<T, UUID> idFunction, final Observer<C> observer) {
+        StoreFunction<T, SqlSession> storeFunction = group.getStoreFunction();
+        if (storeFunction != null) {
+            builder.setStoreFunction((modelObject, sqlSession) -> observe(observer, DatastoreOperation.STORE, id(idFunction, modelObject), () -> {
+                storeFunction.apply(modelObject, sqlSession);
+                return null;
+            }, result -> 1));
+        }
+        BatchStoreFunction<T, SqlSession> batchStoreFunction = group.getBatchStoreFunction();
+        if (batchStoreFunction != null) {
+            builder.setBatchStoreFunction((modelObjects, sqlSession) -> observe(observer, DatastoreOperation.BATCH_STORE, null, () -> {
+                batchStoreFunction.apply(modelObjects, sqlSession);
+                return null;
+            }, result -> modelObjects.size()));
+        }
+        UpsertFunction<T, SqlSession> upsertFunction = group.getUpsertFunction();
+        if (upsertFunction != null) {
+            builder.setUpsertFunction((modelObject, sqlSession) -> observe(observer, DatastoreOperation.UPSERT, id(idFunction, modelObject),
+                    () -> upsertFunction.apply(modelObject, sqlSession), result -> 1));
+        }
+        BatchUpsertFunction<T, SqlSession> batchUpsertFunction = group.getBatchUpsertFunction();
+        if (batchUpsertFunction != null) {
+            builder.setBatchUpsertFunction((modelObjects, sqlSession) -> observe(observer, DatastoreOperation.BATCH_UPSERT, null,
+                    () -> batchUpsertFunction.apply(modelObjects, sqlSession), result -> modelObjects.size()));
+        }
+    }
+
+    private static <T extends ModelObject, C> void decorateUpdates(final DatabaseOperationGroup<T> group,
+            final DatabaseOperationGroup.Builder<T> builder, final Function<T, UUID> idFunction, final Observer<C> observer) {
+        UpdateFunction<T, SqlSession> updateFunction = group.getUpdateFunction();
+        if (updateFunction != null) {
+            builder.setUpdateFunction((updated, existing, sqlSession) -> observe(observer, DatastoreOperation.UPDATE, id(idFunction, updated), () -> {
+                updateFunction.apply(updated, existing, sqlSession);
+                return null;
+            }, result -> 1));
+        }
+        VersionedUpdateFunction<T, SqlSession> versionedUpdateFunction = group.getVersionedUpdateFunction();
+        if (versionedUpdateFunction != null) {
+            builder.setVersionedUpdateFunction((modelObject, sqlSession) -> observe(observer, DatastoreOperation.VERSIONED_UPDATE,
+                    id(idFunction, modelObject), () -> {
+                        versionedUpdateFunction.apply(modelObject, sqlSession);
+                        return null;
+                    }, result -> 1));
+        }
+        CascadeUpdateFunction<T, SqlSession> cascadeUpdateFunction = group.getCascadeUpdateFunction();
+        if (cascadeUpdateFunction != null) {
+            builder.setCascadeUpdateFunction((updated, existing, sqlSession) -> observe(observer, DatastoreOperation.CASCADE_UPDATE,
+                    id(idFunction, updated), () -> cascadeUpdateFunction.apply(updated, existing, sqlSession), result -> 1));
+        }
+    }
+
+    private static <T extends ModelObject, C> void decorateRetrieves(final DatabaseOperationGroup<T> group,
+            final DatabaseOperationGroup.Builder<T> builder, final Observer<C> observer) {
+        TwoParameterFunction<UUID, SqlSession, T> retrieveFunction = group.getRetrieveFunction();
+        if (retrieveFunction != null) {
+            builder.setRetrieveFunction((id, sqlSession) -> observe(observer, DatastoreOperation.RETRIEVE, id,
+                    () -> retrieveFunction.apply(id, sqlSession), modelObject -> modelObject == null ? 0 : 1));
+        }
+        BulkRetrieveFunction<T, SqlSession> bulkRetrieveFunction = group.getBulkRetrieveFunction();
+        if (bulkRetrieveFunction != null) {
+            builder.setBulkRetrieveFunction((ids, sqlSession) -> observe(observer, DatastoreOperation.BULK_RETRIEVE, null,
+                    () -> bulkRetrieveFunction.apply(ids, sqlSession), result -> result.modelObjects().size()));
+        }
+    }
+
+    private static <T extends ModelObject, C> void decorateDeletes(final DatabaseOperationGroup<T> group,
+            final DatabaseOperationGroup.Builder<T> builder, final Function<T, UUID> idFunction, final Observer<C> observer) {
+        DeleteFunction<T, SqlSession> deleteFunction = group.getDeleteFunction();
+        if (deleteFunction != null) {
+            builder.setDeleteFunction((modelObject, sqlSession) -> observe(observer, DatastoreOperation.DELETE, id(idFunction, modelObject), () -> {
+                deleteFunction.apply(modelObject, sqlSession);
+                return null;
+            }, result -> 1));
+        }
+        BulkDeleteFunction<SqlSession> bulkDeleteFunction = group.getBulkDeleteFunction();
+        if (bulkDeleteFunction != null) {
+            builder.setBulkDeleteFunction((ids, sqlSession) -> observe(observer, DatastoreOperation.BULK_DELETE, null,
+                    () -> bulkDeleteFunction.apply(ids, sqlSession), Integer::intValue));
+        }
+    }
+
+    private static <T extends ModelObject> UUID id(final Function<T, UUID> idFunction, final T modelObject) {
+        return idFunction == null ? null : idFunction.apply(modelObject);
+    }
+
+    private static <R, C, E extends Exception> R observe(final Observer<C> observer, final DatastoreOperation operation, final UUID id,
+            final Call<R, E> call, final ToIntFunction<R> rowCount) throws E {
+        C context = observer.started(operation);
+        long start = System.nanoTime();
+        R result;
+        try {
+            result = call.apply();
+        } catch (Throwable e) {
+            observer.ended(context, operation, id, System.nanoTime() - start, 0, e);
+            throw e;
+        }
+        observer.ended(context, operation, id, System.nanoTime() - start, rowCount.applyAsInt(result), null);
+        return result;
+    }
+
+    /**
+     * The <code>Observer</code> interface is told when each call of a wrapped function starts and how it ended.
+     *
+     * @param <C> The type of context carried from the start of a call to its end.
+     */
+    interface Observer<C> {
+
+        /**
+         * Called before the wrapped function.
+         *
+         * @param operation The operation being called.
+         *
+         * @return The context passed to {@link #ended}.
+         */
+        C started(DatastoreOperation operation);
+
+        /**
+         * Called after the wrapped function returned or failed.
+         *
+         * @param context The context returned by {@link #started}.
+         * @param operation The operation that was called.
+         * @param id The ID of the model object, or <code>null</code> for operations on a collection of model objects.
+         * @param elapsedNanos The time the wrapped function took, in nanoseconds.
+         * @param rowCount The number of model objects written or found, zero when the call failed.
+         * @param failure The failure of the wrapped function, or <code>null</code> when it returned.
+         */
+        void ended(C context, DatastoreOperation operation, UUID id, long elapsedNanos, int rowCount, Throwable failure);
+    }
+
+    /**
+     * The <code>Call</code> interface is one call of a wrapped function.
+     *
+     * @param <R> The type of result of the call.
+     * @param <E> The type of checked exception thrown by the call.
+     */
+    @FunctionalInterface
+    private interface Call<R, E extends Exception> {
+        R apply() throws E;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreConflictException;
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreSaveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import com.powerupsoftwareengineering.lambda.functions.api.TwoParameterFunction;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.SqlSession;
+
+/**
+ * The <code>OptimisticUpdateFunction</code> class is a {@link VersionedUpdateFunction} that runs a mapper statement of the form
+ * <code>UPDATE ... SET ..., version = version + 1 WHERE id = #{id} AND version = #{version}</code> and reports a
+ * {@link DatastoreConflictException} when it updates no rows. The row count is only reliable on sql sessions that do not use
+ * {@link org.apache.ibatis.session.ExecutorType#BATCH}, since a batched update does not return its row count until flushed.
+ *
+ * @param <T> The type of model object being updated.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class OptimisticUpdateFunction<T extends ModelObject> implements VersionedUpdateFunction<T, SqlSession> {
+    /**
+     * The function that runs the version guarded update statement, returning the number of rows updated.
+     */
+    private final TwoParameterFunction<T, SqlSession, Integer> updateStatementFunction;
+    /**
+     * Function that returns the ID of a model object, used to report conflicts.
+     */
+    private final Function<T, UUID> idFunction;
+    /**
+     * Function that returns the version a model object was read at, used to report conflicts.
+     */
+    private final ToLongFunction<T> versionFunction;
+
+    /**
+     * Base Constructor taking all values as parameters.
+     *
+     * @param updateStatementFunction Value of {@link #updateStatementFunction}.
+     * @param idFunction Value of {@link #idFunction}.
+     * @param versionFunction Value of {@link #versionFunction}.
+     */
+    public OptimisticUpdateFunction(final TwoParameterFunction<T, SqlSession, Integer> updateStatementFunction, final Function<T, UUID> idFunction,
+            final ToLongFunction<T> versionFunction) {
+        this.updateStatementFunction = updateStatementFunction;
+        this.idFunction = idFunction;
+        this.versionFunction = versionFunction;
+    }
+
+    @Override
+    public void apply(final T modelObject, final SqlSession sqlSession) throws DatastoreSaveException {
+        int updated;
+        try {
+            updated = updateStatementFunction.apply(modelObject, sqlSession);
+        } catch (PersistenceException e) {
+            throw new DatastoreSaveException("Unable to update model object " + idFunction.apply(modelObject), e);
+        }
+        if (updated == 0) {
+            throw new DatastoreConflictException(idFunction.apply(modelObject), versionFunction.applyAsLong(modelObject));
+        }
+    }
+}
\ No newline at end of file
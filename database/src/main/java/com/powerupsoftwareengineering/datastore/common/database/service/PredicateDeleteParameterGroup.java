@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+/**
+ * The <code>PredicateDeleteParameterGroup</code> class is the parameter passed to a mapper statement that deletes a bounded number of the rows
+ * matching a predicate, for example <code>DELETE FROM item WHERE id IN (SELECT id FROM item WHERE created &lt; #{predicate.cutoff} LIMIT
+ * #{limit})</code>.
+ *
+ * @param <T> The type of the values the predicate is built from
+ * @param predicate The values the mapper uses to select the rows to delete.
+ * @param limit The maximum number of rows the statement may delete.
+ *
+ * @author Chris Picard
+ */
+public record PredicateDeleteParameterGroup<T>(
+        T predicate,
+        int limit) {
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreRetrieveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import com.powerupsoftwareengineering.lambda.functions.api.TwoParameterFunction;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.ibatis.session.SqlSession;
+
+/**
+ * The <code>RetrieveCoalescer</code> class lets concurrent retrieves of the same ID share one query. The first caller runs the retrieve function
+ * using its own sql session while later callers for the same ID wait for, and receive, the same result or failure. Once the query finishes the next
+ * retrieve of the ID runs a new query, so no result is kept.
+ * <p>
+ * Waiting callers receive a model object read through another sql session, which may belong to a transaction with different visibility than their
+ * own. Retrieves that must see uncommitted writes of their own transaction should not be coalesced.
+ *
+ * @param <T> The type of model object being retrieved.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class RetrieveCoalescer<T extends ModelObject> {
+    /**
+     * The retrieves currently running, keyed by ID.
+     */
+    private final ConcurrentMap<UUID, CompletableFuture<T>> inFlight = new ConcurrentHashMap<>();
+    /**
+     * The function that retrieves a model object when no retrieve of the same ID is running.
+     */
+    private final TwoParameterFunction<UUID, SqlSession, T> retrieveFunction;
+
+    /**
+     * Base Constructor taking all values as parameters.
+     *
+     * @param retrieveFunction Value of {@link #retrieveFunction}.
+     */
+    public RetrieveCoalescer(final TwoParameterFunction<UUID, SqlSession, T> retrieveFunction) {
+        this.retrieveFunction = retrieveFunction;
+    }
+
+    /**
+     * Creates a copy of a database operation group whose retrieve function coalesces concurrent retrieves of the same ID. A failure of the shared
+     * query is rethrown unchanged to every caller.
+     *
+     * @param <T> The type of model object being retrieved.
+     * @param group The database operation group whose retrieve function is coalesced.
+     *
+     * @return The database operation group using the coalesced retrieve function.
+     */
+    public static <T extends ModelObject> DatabaseOperationGroup<T> decorate(final DatabaseOperationGroup<T> group) {
+        if (group.getRetrieveFunction() == null) {
+            return group;
+        }
+        RetrieveCoalescer<T> coalescer = new RetrieveCoalescer<>(group.getRetrieveFunction());
+        return group.toBuilder().setRetrieveFunction(coalescer::load).build();
+    }
+
+    /**
+     * Retrieves a model object, sharing the query of any retrieve of the same ID that is already running.
+     *
+     * @param id The ID of the model object to retrieve.
+     * @param sqlSession The sql session to use if this call runs the query.
+     *
+     * @return The model object, or <code>null</code> if it does not exist.
+     *
+     * @throws DatastoreRetrieveException The shared query failed.
+     */
+    public T retrieve(final UUID id, final SqlSession sqlSession) throws DatastoreRetrieveException {
+        try {
+            return load(id, sqlSession);
+        } catch (RuntimeException e) {
+            throw new DatastoreRetrieveException("Unable to retrieve model object " + id, e);
+        }
+    }
+
+    private T load(final UUID id, final SqlSession sqlSession) {
+        CompletableFuture<T> load = new CompletableFuture<>();
+        CompletableFuture<T> running = inFlight.putIfAbsent(id, load);
+        if (running != null) {
+            return await(running);
+        }
+        try {
+            T modelObject = retrieveFunction.apply(id, sqlSession);
+            load.complete(modelObject);
+            return modelObject;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(id, load);
+        }
+    }
+
+    private T await(final CompletableFuture<T> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreDeleteException;
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreRetrieveException;
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreSaveException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+
+/**
+ * The <code>RetryExecutor</code> class runs a unit of work using the functions of a {@link DatabaseOperationGroup} in its own transaction, and runs
+ * the whole transaction again when it fails with a transient failure such as a serialization failure or deadlock. Permanent failures, such as
+ * constraint violations, are rethrown at once. Retries wait a random time of up to an exponentially growing bound, and stop once the maximum
+ * attempts are used or the deadline would be passed.
+ * <p>
+ * The number of retries and of transactions that still failed after retrying are counted, and reported to a {@link DatastoreMetrics}
+ * implementation with the category of the failure.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class RetryExecutor {
+    /**
+     * The factory used to open a sql session for each attempt.
+     */
+    private final SqlSessionFactory sqlSessionFactory;
+    /**
+     * The limits applied to retries.
+     */
+    private final RetryPolicy retryPolicy;
+    /**
+     * Predicate deciding whether a failure is transient and the transaction should be run again.
+     */
+    private final Predicate<Throwable> transientFailure;
+    /**
+     * The metrics implementation retries are reported to.
+     */
+    private final DatastoreMetrics metrics;
+    /**
+     * The number of times a transaction was run again.
+     */
+    private final LongAdder retries = new LongAdder();
+    /**
+     * The number of transactions that failed with a transient failure after using all allowed attempts.
+     */
+    private final LongAdder exhausted = new LongAdder();
+
+    /**
+     * Constructor classifying failures with {@link SqlStateClassifier}.
+     *
+     * @param sqlSessionFactory Value of {@link #sqlSessionFactory}.
+     * @param retryPolicy Value of {@link #retryPolicy}.
+     */
+    public RetryExecutor(final SqlSessionFactory sqlSessionFactory, final RetryPolicy retryPolicy) {
+        this(sqlSessionFactory, retryPolicy, SqlStateClassifier::isTransient);
+    }
+
+    /**
+     * Constructor not reporting retries to a metrics implementation.
+     *
+     * @param sqlSessionFactory Value of {@link #sqlSessionFactory}.
+     * @param retryPolicy Value of {@link #retryPolicy}.
+     * @param transientFailure Value of {@link #transientFailure}.
+     */
+    public RetryExecutor(final SqlSessionFactory sqlSessionFactory, final RetryPolicy retryPolicy, final Predicate<Throwable> transientFailure) {
+        this(sqlSessionFactory, retryPolicy, transientFailure, NoOpDatastoreMetrics.INSTANCE);
+    }
+
+    /**
+     * Base Constructor taking all values as parameters.
+     *
+     * @param sqlSessionFactory Value of {@link #sqlSessionFactory}.
+     * @param retryPolicy Value of {@link #retryPolicy}.
+     * @param transientFailure Value of {@link #transientFailure}.
+     * @param metrics Value of {@link #metrics}.
+     */
+    public RetryExecutor(final SqlSessionFactory sqlSessionFactory, final RetryPolicy retryPolicy, final Predicate<Throwable> transientFailure,
+            final DatastoreMetrics metrics) {
+        this.sqlSessionFactory = sqlSessionFactory;
+        this.retryPolicy = retryPolicy;
+        this.transientFailure = transientFailure;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Runs a unit of work in its own transaction, which is committed when the work completes, retrying it after transient failures.
+     *
+     * @param <R> The type of result of the unit of work.
+     * @param work The unit of work, which may be run more than once and so must not have side effects outside the transaction.
+     *
+     * @return The result of the successful attempt.
+     *
+     * @throws DatastoreSaveException The unit of work failed to save.
+     * @throws DatastoreRetrieveException The unit of work failed to retrieve.
+     * @throws DatastoreDeleteException The unit of work failed to delete.
+     */
+    public <R> R execute(final TransactionWork<R> work) throws DatastoreSaveException, DatastoreRetrieveException, DatastoreDeleteException {
+        long deadline = System.nanoTime() + retryPolicy.deadline().toNanos();
+        for (int attempt = 1; ; attempt++) {
+            try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+                R result = work.apply(sqlSession);
+                sqlSession.commit();
+                return result;
+            } catch (DatastoreSaveException | DatastoreRetrieveException | DatastoreDeleteException | RuntimeException e) {
+                if (!transientFailure.test(e)) {
+                    throw e;
+                }
+                long backoff = findBackoff(attempt);
+                if (attempt >= retryPolicy.maximumAttempts() || System.nanoTime() + backoff > deadline || !sleep(backoff)) {
+                    exhausted.increment();
+                    metrics.retriesExhausted(SqlStateClassifier.classify(e).getCategory());
+                    throw e;
+                }
+                retries.increment();
+                metrics.retried(SqlStateClassifier.classify(e).getCategory());
+            }
+        }
+    }
+
+    /**
+     * Accessor for the number of times a transaction was run again after a transient failure.
+     *
+     * @return The number of retries
+     */
+    public long getRetryCount() {
+        return retries.sum();
+    }
+
+    /**
+     * Accessor for the number of transactions that still failed with a transient failure after retrying.
+     *
+     * @return The number of transactions that used all allowed attempts or time
+     */
+    public long getExhaustedCount() {
+        return exhausted.sum();
+    }
+
+    private long findBackoff(final int attempt) {
+        long maximum = retryPolicy.maximumBackoff().toNanos();
+        long bound = retryPolicy.initialBackoff().toNanos();
+        for (int retry = 1; retry < attempt && bound < maximum; retry++) {
+            bound *= 2;
+        }
+        bound = Math.min(bound, maximum);
+        return bound <= 0 ? 0 : ThreadLocalRandom.current().nextLong(bound + 1);
+    }
+
+    private static boolean sleep(final long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * The <code>TransactionWork</code> interface is a unit of work using the functions of one or more database operation groups with a given sql
+     * session.
+     *
+     * @param <R> The type of result of the unit of work.
+     */
+    @FunctionalInterface
+    public interface TransactionWork<R> {
+
+        /**
+         * Apply invokes the function this lambda function represents.
+         *
+         * @param sqlSession The sql session of the current attempt.
+         *
+         * @return The result of the unit of work.
+         *
+         * @throws DatastoreSaveException Unable to save.
+         * @throws DatastoreRetrieveException Unable to retrieve.
+         * @throws DatastoreDeleteException Unable to delete.
+         */
+        R apply(SqlSession sqlSession) throws DatastoreSaveException, DatastoreRetrieveException, DatastoreDeleteException;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import java.time.Duration;
+
+/**
+ * The <code>RetryPolicy</code> class holds the limits a {@link RetryExecutor} applies when running a transaction again after a transient failure.
+ *
+ * @param maximumAttempts The maximum number of times the transaction is run, including the first attempt.
+ * @param initialBackoff The upper bound of the random wait before the first retry, doubled for each further retry.
+ * @param maximumBackoff The largest upper bound of the random wait before a retry.
+ * @param deadline The time after the first attempt started after which no retry is started.
+ *
+ * @author Chris Picard
+ */
+public record RetryPolicy(
+        int maximumAttempts,
+        Duration initialBackoff,
+        Duration maximumBackoff,
+        Duration deadline) {
+
+    /**
+     * Compact constructor validating the limits.
+     */
+    public RetryPolicy {
+        if (maximumAttempts < 1) {
+            throw new IllegalArgumentException("Maximum attempts must be at least one but was " + maximumAttempts);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreRetrieveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import com.powerupsoftwareengineering.lambda.functions.api.TwoParameterFunction;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.apache.ibatis.session.SqlSession;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * The <code>SessionIdentityMap</code> class holds the model objects retrieved within one unit of work, keyed by model class and ID, so repeated
+ * retrieves of the same ID return the already loaded instance without another query. One instance can be shared by the groups of every model
+ * class.
+ * <p>
+ * When a Spring managed transaction is active the model objects are bound to the transaction and discarded when it completes. Otherwise they are
+ * only held for a sql session whose scope was started with {@link #begin(SqlSession)}, and discarded by {@link #commit(SqlSession)},
+ * {@link #rollback(SqlSession)} or {@link #clear(SqlSession)}, which the caller must use in place of the sql session methods. Retrieves through
+ * any other sql session, such as a shared thread safe session used outside a transaction, go straight to the database. Writes through a decorated
+ * group remove the written IDs. When combined with a
+ * {@link DatabaseOperationGroupCache}, the identity map should decorate the cached group.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class SessionIdentityMap {
+    /**
+     * The model objects retrieved through each sql session whose scope was started outside a Spring managed transaction.
+     */
+    private final Map<SqlSession, Map<IdentityKey, ModelObject>> sessionIdentities = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Creates a copy of a database operation group whose retrieve functions are served from this identity map and whose write functions remove the
+     * written IDs from it.
+     *
+     * @param <T> The type of model object handled by the group.
+     * @param group The database operation group to place the identity map in front of.
+     * @param modelClass The class of model object handled by the group.
+     * @param idFunction Function that returns the ID of a model object.
+     *
+     * @return The database operation group using this identity map.
+     */
+    public <T extends ModelObject> DatabaseOperationGroup<T> decorate(final DatabaseOperationGroup<T> group, final Class<T> modelClass,
+            final Function<T, UUID> idFunction) {
+        DatabaseOperationGroup.Builder<T> builder = group.toBuilder();
+        WriteInvalidationUtil.decorateWrites(group, builder, idFunction, (ids, sqlSession) -> {
+            Map<IdentityKey, ModelObject> identities = findIdentities(sqlSession, false);
+            if (identities != null) {
+                for (UUID id : ids) {
+                    identities.remove(new IdentityKey(modelClass, id));
+                }
+            }
+        });
+        TwoParameterFunction<UUID, SqlSession, T> retrieveFunction = group.getRetrieveFunction();
+        if (retrieveFunction != null) {
+            builder.setRetrieveFunction((id, sqlSession) -> {
+                Map<IdentityKey, ModelObject> identities = findIdentities(sqlSession, true);
+                if (identities == null) {
+                    return retrieveFunction.apply(id, sqlSession);
+                }
+                IdentityKey key = new IdentityKey(modelClass, id);
+                ModelObject modelObject = identities.get(key);
+                if (modelObject != null) {
+                    return modelClass.cast(modelObject);
+                }
+                T retrieved = retrieveFunction.apply(id, sqlSession);
+                if (retrieved != null) {
+                    identities.put(key, retrieved);
+                }
+                return retrieved;
+            });
+        }
+        BulkRetrieveFunction<T, SqlSession> bulkRetrieveFunction = group.getBulkRetrieveFunction();
+        if (bulkRetrieveFunction != null) {
+            builder.setBulkRetrieveFunction((ids, sqlSession) -> bulkRetrieve(bulkRetrieveFunction, modelClass, ids, sqlSession));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Starts holding the model objects retrieved through a sql session that is not part of a Spring managed transaction, until the sql session is
+     * committed, rolled back or cleared through this identity map. The sql session must belong to a single unit of work.
+     *
+     * @param sqlSession The sql session to hold model objects for.
+     */
+    public void begin(final SqlSession sqlSession) {
+        sessionIdentities.putIfAbsent(sqlSession, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Commits a sql session and discards the model objects retrieved through it.
+     *
+     * @param sqlSession The sql session to commit.
+     */
+    public void commit(final SqlSession sqlSession) {
+        try {
+            sqlSession.commit();
+        } finally {
+            clear(sqlSession);
+        }
+    }
+
+    /**
+     * Rolls back a sql session and discards the model objects retrieved through it.
+     *
+     * @param sqlSession The sql session to roll back.
+     */
+    public void rollback(final SqlSession sqlSession) {
+        try {
+            sqlSession.rollback();
+        } finally {
+            clear(sqlSession);
+        }
+    }
+
+    /**
+     * Discards the model objects retrieved through a sql session.
+     *
+     * @param sqlSession The sql session whose model objects are discarded.
+     */
+    public void clear(final SqlSession sqlSession) {
+        sessionIdentities.remove(sqlSession);
+    }
+
+    private <T extends ModelObject> BulkRetrieveResult<T> bulkRetrieve(final BulkRetrieveFunction<T, SqlSession> bulkRetrieveFunction,
+            final Class<T> modelClass, final Collection<UUID> ids, final SqlSession sqlSession) throws DatastoreRetrieveException {
+        Map<IdentityKey, ModelObject> identities = findIdentities(sqlSession, true);
+        if (identities == null) {
+            return bulkRetrieveFunction.apply(ids, sqlSession);
+        }
+        Set<UUID> distinctIds = new LinkedHashSet<>(ids);
+        List<UUID> misses = new ArrayList<>();
+        for (UUID id : distinctIds) {
+            if (!identities.containsKey(new IdentityKey(modelClass, id))) {
+                misses.add(id);
+            }
+        }
+        BulkRetrieveResult<T> retrieved = misses.isEmpty()
+                ? new BulkRetrieveResult<>(Map.of(), new LinkedHashSet<>())
+                : bulkRetrieveFunction.apply(misses, sqlSession);
+        Map<UUID, T> modelObjects = new LinkedHashMap<>(distinctIds.size() * 2);
+        for (UUID id : distinctIds) {
+            IdentityKey key = new IdentityKey(modelClass, id);
+            T modelObject = retrieved.modelObjects().get(id);
+            if (modelObject != null) {
+                identities.put(key, modelObject);
+            } else {
+                modelObject = modelClass.cast(identities.get(key));
+            }
+            if (modelObject != null) {
+                modelObjects.put(id, modelObject);
+            }
+        }
+        return new BulkRetrieveResult<>(modelObjects, retrieved.missingIds());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<IdentityKey, ModelObject> findIdentities(final SqlSession sqlSession, final boolean create) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return sessionIdentities.get(sqlSession);
+        }
+        Map<IdentityKey, ModelObject> identities = (Map<IdentityKey, ModelObject>) TransactionSynchronizationManager.getResource(this);
+        if (identities == null && create) {
+            identities = new ConcurrentHashMap<>();
+            TransactionSynchronizationManager.bindResource(this, identities);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(SessionIdentityMap.this);
+                }
+            });
+        }
+        return identities;
+    }
+
+    /**
+     * The key of a model object in the identity map.
+     *
+     * @param modelClass The class of the model object.
+     * @param id The ID of the model object.
+     */
+    private record IdentityKey(
+            Class<?> modelClass,
+            UUID id) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreDeleteException;
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreErrorCode;
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreRetrieveException;
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreSaveException;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.SQLTransientException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * The <code>SqlStateClassifier</code> class tells transient database failures, which may succeed when the transaction is run again, from permanent
+ * ones such as constraint violations. The cause chain of a failure, including chained {@link SQLException#getNextException() next exceptions}, is
+ * searched for a datastore exception carrying an error code, or for a {@link SQLException} whose SQLState or vendor code identifies the failure.
+ * <p>
+ * Transient failures are {@link SQLTransientException}s, SQLState class <code>40</code> (transaction rollback, covering serialization failures and
+ * deadlocks), PostgreSQL <code>55P03</code> (lock not available) and <code>57P01</code> (admin shutdown), MySQL error codes 1205 and 1213 (lock wait
+ * timeout and deadlock), Oracle error codes 60 and 8177 (deadlock and serialization failure) and SQL Server error code 1205 (deadlock). SQLState
+ * class <code>23</code> is classified as a permanent constraint violation.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public final class SqlStateClassifier {
+    /**
+     * The SQLState class of transaction rollbacks.
+     */
+    private static final String TRANSACTION_ROLLBACK_CLASS = "40";
+    /**
+     * The SQLState class of integrity constraint violations.
+     */
+    private static final String INTEGRITY_CONSTRAINT_CLASS = "23";
+    /**
+     * The PostgreSQL SQLState of a deadlock.
+     */
+    private static final String DEADLOCK_SQL_STATE = "40P01";
+    /**
+     * The PostgreSQL SQLState of a lock that is not available.
+     */
+    private static final String LOCK_NOT_AVAILABLE_SQL_STATE = "55P03";
+    /**
+     * The PostgreSQL SQLState of an administrator shutting the connection down.
+     */
+    private static final String ADMIN_SHUTDOWN_SQL_STATE = "57P01";
+    /**
+     * The vendor codes of deadlocks, covering MySQL and Oracle.
+     */
+    private static final Set<Integer> DEADLOCK_VENDOR_CODES = Set.of(60, 1213);
+    /**
+     * The vendor code of a MySQL lock wait timeout, which SQL Server also uses for deadlocks.
+     */
+    private static final int LOCK_WAIT_VENDOR_CODE = 1205;
+    /**
+     * The vendor code of an Oracle serialization failure.
+     */
+    private static final int SERIALIZATION_VENDOR_CODE = 8177;
+
+    private SqlStateClassifier() {
+    }
+
+    /**
+     * Checks whether a failure is transient, meaning the transaction that raised it may succeed when run again.
+     *
+     * @param failure The failure raised by a database operation.
+     *
+     * @return <code>true</code> if the failure is classified with a transient error code.
+     */
+    public static boolean isTransient(final Throwable failure) {
+        return classify(failure).isTransient();
+    }
+
+    /**
+     * Classifies a failure. The error code of the outermost datastore exception that has one is used. Otherwise the first transient
+     * {@link SQLException} in the cause chain wins over permanent ones, so a transient failure reported behind a generic one is still retried.
+     *
+     * @param failure The failure raised by a database operation.
+     *
+     * @return The error code of the failure, {@link DatastoreErrorCode#UNKNOWN} if it could not be classified.
+     */
+    public static DatastoreErrorCode classify(final Throwable failure) {
+        DatastoreErrorCode permanent = DatastoreErrorCode.UNKNOWN;
+        Set<Throwable> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Throwable cause = failure; cause != null && visited.add(cause); cause = cause.getCause()) {
+            DatastoreErrorCode datastoreErrorCode = datastoreErrorCode(cause);
+            if (datastoreErrorCode != DatastoreErrorCode.UNKNOWN) {
+                return datastoreErrorCode;
+            }
+            if (cause instanceof SQLException sqlException) {
+                for (SQLException next = sqlException; next != null && (next == sqlException || visited.add(next)); next = next.getNextException()) {
+                    DatastoreErrorCode errorCode = classifySqlException(next);
+                    if (errorCode.isTransient()) {
+                        return errorCode;
+                    }
+                    if (permanent == DatastoreErrorCode.UNKNOWN) {
+                        permanent = errorCode;
+                    }
+                }
+            }
+        }
+        return permanent;
+    }
+
+    private static DatastoreErrorCode datastoreErrorCode(final Throwable failure) {
+        if (failure instanceof DatastoreSaveException exception) {
+            return exception.getErrorCode();
+        }
+        if (failure instanceof DatastoreRetrieveException exception) {
+            return exception.getErrorCode();
+        }
+        if (failure instanceof DatastoreDeleteException exception) {
+            return exception.getErrorCode();
+        }
+        return DatastoreErrorCode.UNKNOWN;
+    }
+
+    private static DatastoreErrorCode classifySqlException(final SQLException exception) {
+        String sqlState = exception.getSQLState() == null ? "" : exception.getSQLState();
+        int vendorCode = exception.getErrorCode();
+        if (DEADLOCK_SQL_STATE.equals(sqlState) || DEADLOCK_VENDOR_CODES.contains(vendorCode)) {
+            return DatastoreErrorCode.DEADLOCK;
+        }
+        if (vendorCode == LOCK_WAIT_VENDOR_CODE) {
+            return sqlState.startsWith(TRANSACTION_ROLLBACK_CLASS) ? DatastoreErrorCode.DEADLOCK : DatastoreErrorCode.LOCK_TIMEOUT;
+        }
+        if (sqlState.startsWith(TRANSACTION_ROLLBACK_CLASS) || vendorCode == SERIALIZATION_VENDOR_CODE) {
+            return DatastoreErrorCode.SERIALIZATION_FAILURE;
+        }
+        if (LOCK_NOT_AVAILABLE_SQL_STATE.equals(sqlState)) {
+            return DatastoreErrorCode.LOCK_TIMEOUT;
+        }
+        if (ADMIN_SHUTDOWN_SQL_STATE.equals(sqlState) || exception instanceof SQLTransientConnectionException) {
+            return DatastoreErrorCode.CONNECTION_FAILURE;
+        }
+        if (exception instanceof SQLTransientException) {
+            return DatastoreErrorCode.TRANSIENT_FAILURE;
+        }
+        if (sqlState.startsWith(INTEGRITY_CONSTRAINT_CLASS)) {
+            return DatastoreErrorCode.CONSTRAINT_VIOLATION;
+        }
+        return DatastoreErrorCode.UNKNOWN;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreRetrieveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.util.stream.Stream;
+import org.apache.ibatis.session.SqlSession;
+
+/**
+ * The <code>StreamingRetrieveFunction</code> class defines a lambda expression function for a database retrieve operation whose results are read
+ * one at a time instead of being loaded into a list. The returned stream holds database resources and must be closed, normally with a
+ * try-with-resources statement.
+ *
+ * @param <OneT> The type of parameter used to select the model objects
+ * @param <TwoT> The sql session to use to perform the retrieve operation
+ * @param <ReturnT> The type of model object being retrieved
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+@FunctionalInterface
+public interface StreamingRetrieveFunction<OneT, TwoT extends SqlSession, ReturnT extends ModelObject> {
+
+    /**
+     * Apply invokes the function this lambda function represents.
+     *
+     * @param one The parameter used to select the model objects
+     * @param two The sql session to use to perform the retrieve operation, which must stay open until the stream is closed
+     *
+     * @return The stream of retrieved model objects
+     *
+     * @throws DatastoreRetrieveException Unable to start retrieving the model objects
+     */
+    @SuppressWarnings("RedundantThrows")
+    Stream<ReturnT> apply(OneT one, TwoT two) throws DatastoreRetrieveException;
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreSaveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import org.apache.ibatis.session.SqlSession;
+
+/**
+ * The <code>StructuralHashCascadeUpdateFunction</code> class is a {@link CascadeUpdateFunction} that skips the cascade when the updated and existing
+ * model objects have the same {@link StructuralHashUtil structural hash}, so an unchanged subtree is pruned without walking it again or issuing any
+ * statements. Wrapping the cascade update function of each child group prunes unchanged subtrees at every level of the graph.
+ *
+ * @param <T> The type of model object being updated.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class StructuralHashCascadeUpdateFunction<T extends ModelObject> implements CascadeUpdateFunction<T, SqlSession> {
+    /**
+     * The cascade update function run when the model object changed.
+     */
+    private final CascadeUpdateFunction<T, SqlSession> cascadeUpdateFunction;
+
+    /**
+     * Base Constructor taking all values as parameters.
+     *
+     * @param cascadeUpdateFunction Value of {@link #cascadeUpdateFunction}.
+     */
+    public StructuralHashCascadeUpdateFunction(final CascadeUpdateFunction<T, SqlSession> cascadeUpdateFunction) {
+        this.cascadeUpdateFunction = cascadeUpdateFunction;
+    }
+
+    @Override
+    public T apply(final T updated, final T existing, final SqlSession sqlSession) throws DatastoreSaveException {
+        if (StructuralHashUtil.isUnchanged(updated, existing)) {
+            return updated;
+        }
+        return cascadeUpdateFunction.apply(updated, existing, sqlSession);
+    }
+}
\ No newline at end of file
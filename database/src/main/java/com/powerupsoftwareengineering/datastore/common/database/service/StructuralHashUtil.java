@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAmount;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * The <code>StructuralHashUtil</code> class computes a 128 bit hash of the content of an object graph, Merkle style, where the hash of an object is
+ * built from the hashes of the objects it holds. Model objects are immutable, so the hash of each model object instance is computed once and kept
+ * until the instance is garbage collected; comparing two versions of a large model graph then only hashes the parts that were rebuilt.
+ * <p>
+ * Strings, numbers, UUIDs, enums and java time values are hashed by content. Lists and arrays are hashed in order, sets and maps without regard to
+ * order. Other objects from <code>java</code> packages contribute their <code>hashCode</code>, and all remaining objects are hashed field by field
+ * in the same way as {@link ModelObjectDiffUtil} compares them. Object graphs must not contain cycles.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public final class StructuralHashUtil {
+    /**
+     * The hash function used for every node of the graph.
+     */
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    /**
+     * The hashes of model object instances, compared by identity and released when the instance is garbage collected.
+     */
+    private static final Cache<ModelObject, HashCode> MODEL_OBJECT_HASHES = CacheBuilder.newBuilder().weakKeys().build();
+
+    private StructuralHashUtil() {
+    }
+
+    /**
+     * Computes the structural hash of an object graph.
+     *
+     * @param value The root of the object graph, may be <code>null</code>.
+     *
+     * @return The structural hash.
+     */
+    public static HashCode structuralHash(final Object value) {
+        if (value instanceof ModelObject modelObject) {
+            HashCode hash = MODEL_OBJECT_HASHES.getIfPresent(modelObject);
+            if (hash == null) {
+                hash = hashFields(value);
+                MODEL_OBJECT_HASHES.put(modelObject, hash);
+            }
+            return hash;
+        }
+        Hasher hasher = HASH_FUNCTION.newHasher();
+        putValue(hasher, value);
+        return hasher.hash();
+    }
+
+    /**
+     * Checks whether two versions of an object graph have the same structure and content, in which case writing the updated version can be skipped.
+     *
+     * @param updated The updated version of the object graph.
+     * @param existing The existing version of the object graph.
+     *
+     * @return <code>true</code> if both versions are the same instance or have the same structural hash.
+     */
+    public static boolean isUnchanged(final Object updated, final Object existing) {
+        return updated == existing || updated != null && existing != null && structuralHash(updated).equals(structuralHash(existing));
+    }
+
+    private static HashCode hashFields(final Object value) {
+        Hasher hasher = HASH_FUNCTION.newHasher().putString(value.getClass().getName(), StandardCharsets.UTF_8);
+        for (Field field : ModelObjectDiffUtil.findFields(value.getClass())) {
+            putValue(hasher, ModelObjectDiffUtil.read(field, value));
+        }
+        return hasher.hash();
+    }
+
+    private static void putValue(final Hasher hasher, final Object value) {
+        if (value == null) {
+            hasher.putByte((byte) 0);
+        } else if (value instanceof CharSequence charSequence) {
+            hasher.putByte((byte) 1).putInt(charSequence.length()).putString(charSequence, StandardCharsets.UTF_8);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            hasher.putByte((byte) 2).putLong(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            hasher.putByte((byte) 3).putDouble(((Number) value).doubleValue());
+        } else if (value instanceof Boolean bool) {
+            hasher.putByte((byte) 4).putBoolean(bool);
+        } else if (value instanceof Character character) {
+            hasher.putByte((byte) 5).putChar(character);
+        } else if (value instanceof UUID id) {
+            hasher.putByte((byte) 6).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+        } else if (value instanceof Enum<?> constant) {
+            hasher.putByte((byte) 7).putString(constant.getDeclaringClass().getName(), StandardCharsets.UTF_8).putInt(constant.ordinal());
+        } else if (value instanceof BigDecimal || value instanceof BigInteger || value instanceof TemporalAccessor
+                || value instanceof TemporalAmount) {
+            String text = value.toString();
+            hasher.putByte((byte) 8).putString(value.getClass().getName(), StandardCharsets.UTF_8).putInt(text.length())
+                    .putString(text, StandardCharsets.UTF_8);
+        } else if (value instanceof Optional<?> optional) {
+            hasher.putByte((byte) 9);
+            putValue(hasher, optional.orElse(null));
+        } else if (value instanceof List<?> list) {
+            hasher.putByte((byte) 10).putInt(list.size());
+            for (Object element : list) {
+                putValue(hasher, element);
+            }
+        } else if (value instanceof Collection<?> collection) {
+            hasher.putByte((byte) 11).putInt(collection.size());
+            putUnordered(hasher, collection);
+        } else if (value instanceof Map<?, ?> map) {
+            hasher.putByte((byte) 12).putInt(map.size());
+            putUnordered(hasher, map.entrySet());
+        } else if (value instanceof Map.Entry<?, ?> entry) {
+            hasher.putByte((byte) 13);
+            putValue(hasher, entry.getKey());
+            putValue(hasher, entry.getValue());
+        } else if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            hasher.putByte((byte) 14).putInt(length);
+            for (int index = 0; index < length; index++) {
+                putValue(hasher, Array.get(value, index));
+            }
+        } else if (value.getClass().getName().startsWith("java")) {
+            hasher.putByte((byte) 15).putString(value.getClass().getName(), StandardCharsets.UTF_8).putInt(value.hashCode());
+        } else {
+            HashCode hash = value instanceof ModelObject ? structuralHash(value) : hashFields(value);
+            hasher.putByte((byte) 16).putBytes(hash.asBytes());
+        }
+    }
+
+    private static void putUnordered(final Hasher hasher, final Collection<?> elements) {
+        if (elements.isEmpty()) {
+            return;
+        }
+        List<HashCode> hashes = new ArrayList<>(elements.size());
+        for (Object element : elements) {
+            Hasher elementHasher = HASH_FUNCTION.newHasher();
+            putValue(elementHasher, element);
+            hashes.add(elementHasher.hash());
+        }
+        hasher.putBytes(Hashing.combineUnordered(hashes).asBytes());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreSaveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import org.apache.ibatis.session.SqlSession;
+
+/**
+ * The <code>UpsertFunction</code> class defines a lambda expression function for a database operation that stores a new model object or updates
+ * the existing one in a single statement, such as <code>INSERT ... ON CONFLICT</code>, <code>MERGE</code> or
+ * <code>INSERT ... ON DUPLICATE KEY UPDATE</code>.
+ *
+ * @param <OneT> The type of model object being stored or updated
+ * @param <TwoT> The sql session to use to perform the upsert operation
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+@FunctionalInterface
+public interface UpsertFunction<OneT extends ModelObject, TwoT extends SqlSession> {
+
+    /**
+     * Apply invokes the function this lambda function represents.
+     *
+     * @param one The model object to be stored or updated
+     * @param two The sql session to use to perform the upsert operation
+     *
+     * @return Whether the model object was inserted or updated
+     *
+     * @throws DatastoreSaveException Unable to save model object
+     */
+    @SuppressWarnings("RedundantThrows")
+    UpsertOutcome apply(OneT one, TwoT two) throws DatastoreSaveException;
+}
\ No newline at end of file
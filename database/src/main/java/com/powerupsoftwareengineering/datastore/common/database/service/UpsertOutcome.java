@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import java.sql.Statement;
+
+/**
+ * The <code>UpsertOutcome</code> enum describes what an upsert did to a row, so cascade logic can tell a new model object from an updated one.
+ *
+ * @author Chris Picard
+ */
+public enum UpsertOutcome {
+    /**
+     * The row did not exist and was inserted.
+     */
+    INSERTED,
+    /**
+     * The row existed and was updated.
+     */
+    UPDATED,
+    /**
+     * The row existed and already held the same values.
+     */
+    UNCHANGED,
+    /**
+     * The driver did not report enough information to tell an insert from an update.
+     */
+    UNKNOWN;
+
+    /**
+     * Converts the affected row count of a MySQL or MariaDB <code>INSERT ... ON DUPLICATE KEY UPDATE</code> statement, which reports one for an
+     * insert, two for an update and zero when the existing row was left unchanged. It does not apply to PostgreSQL, which reports one for both, or
+     * to MySQL connections using <code>CLIENT_FOUND_ROWS</code>.
+     *
+     * @param affectedRows The affected row count reported for the statement.
+     *
+     * @return The outcome matching the affected row count.
+     */
+    public static UpsertOutcome fromAffectedRows(final int affectedRows) {
+        return switch (affectedRows) {
+            case 0 -> UNCHANGED;
+            case 1 -> INSERTED;
+            case 2 -> UPDATED;
+            case Statement.SUCCESS_NO_INFO -> UNKNOWN;
+            default -> throw new IllegalArgumentException("Affected row count " + affectedRows + " does not match a single row upsert");
+        };
+    }
+
+    /**
+     * Converts the flag returned by an upsert that reports whether the row was inserted, for example <code>RETURNING (xmax = 0)</code> of a
+     * PostgreSQL <code>INSERT ... ON CONFLICT DO UPDATE</code> or <code>$action = 'INSERT'</code> of a SQL Server <code>MERGE ... OUTPUT</code>.
+     *
+     * @param inserted True if the row was inserted.
+     *
+     * @return The outcome matching the flag.
+     */
+    public static UpsertOutcome fromInserted(final boolean inserted) {
+        return inserted ? INSERTED : UPDATED;
+    }
+}
\ No newline at end of file
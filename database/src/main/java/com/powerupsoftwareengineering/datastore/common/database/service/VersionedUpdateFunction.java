@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreConflictException;
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreSaveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import org.apache.ibatis.session.SqlSession;
+
+/**
+ * The <code>VersionedUpdateFunction</code> class defines a lambda expression function for a database update operation that is guarded by the version
+ * carried on the updated model object, so the existing model object does not have to be retrieved first.
+ *
+ * @param <OneT> The type of model object being updated
+ * @param <TwoT> The sql session to use to perform the update operation
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+@FunctionalInterface
+public interface VersionedUpdateFunction<OneT extends ModelObject, TwoT extends SqlSession> {
+
+    /**
+     * Apply invokes the function this lambda function represents.
+     *
+     * @param one The updated model object, carrying the version it was read at
+     * @param two The sql session to use to perform the update operation
+     *
+     * @throws DatastoreConflictException The stored model object is no longer at the version carried by the updated model object
+     * @throws DatastoreSaveException Unable to update model object
+     */
+    @SuppressWarnings("RedundantThrows")
+    void apply(OneT one, TwoT two) throws DatastoreSaveException;
+}
\ No newline at end of file
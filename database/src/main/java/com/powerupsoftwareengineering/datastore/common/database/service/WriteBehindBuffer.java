@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreSaveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The <code>WriteBehindBuffer</code> class holds the latest state of frequently written model objects in memory and writes them to the database
+ * later. Writes of the same ID replace each other in the buffer, so only the last state is written. The buffer is written on a fixed interval, and
+ * as soon as it holds the maximum number of model objects; callers writing a new ID to a full buffer wait until it has been written. Model objects
+ * being written still count towards the maximum until the write succeeds, so while the database is unavailable the buffer stays bounded and
+ * callers writing new IDs wait.
+ * <p>
+ * Buffered model objects are written with the batch upsert function of the group, or the upsert function when the group has no batch upsert
+ * function, and are lost if the process stops before they are written. Failures of interval writes are logged and the model objects kept for the
+ * next attempt. Buffered model objects are only written on shutdown by calling {@link #close()}.
+ *
+ * @param <T> The type of model object being written.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class WriteBehindBuffer<T extends ModelObject> implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindBuffer.class);
+
+    /**
+     * The database operation group whose upsert functions write the buffered model objects.
+     */
+    private final DatabaseOperationGroup<T> group;
+    /**
+     * The factory used to open a sql session for each write of the buffer.
+     */
+    private final SqlSessionFactory sqlSessionFactory;
+    /**
+     * Function that returns the ID of a model object, used to replace earlier states of the same model object.
+     */
+    private final Function<T, UUID> idFunction;
+    /**
+     * The maximum number of model objects held in the buffer.
+     */
+    private final int maximumBufferedObjects;
+    /**
+     * Lock guarding the buffer.
+     */
+    private final ReentrantLock bufferLock = new ReentrantLock();
+    /**
+     * Condition signalled when the buffer has been written and has space again.
+     */
+    private final Condition bufferWritten = bufferLock.newCondition();
+    /**
+     * Lock held while the buffer is written, so a later state is never overwritten by an earlier one.
+     */
+    private final ReentrantLock flushLock = new ReentrantLock();
+    /**
+     * The executor writing the buffer on an interval and when it is full.
+     */
+    private final ScheduledExecutorService scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
+    /**
+     * The latest state of each buffered model object, keyed by ID.
+     */
+    private Map<UUID, T> buffer = new LinkedHashMap<>();
+    /**
+     * The model objects taken from the buffer by the write in progress, keyed by ID.
+     */
+    private Map<UUID, T> writing = Map.of();
+    /**
+     * The number of distinct IDs that are buffered or being written.
+     */
+    private int reservedCount;
+    /**
+     * Whether a write of the full buffer has been requested and not yet started.
+     */
+    private boolean flushRequested;
+    /**
+     * Whether the buffer has been closed and no longer accepts model objects.
+     */
+    private boolean closed;
+
+    /**
+     * Base Constructor taking all values as parameters.
+     *
+     * @param group Value of {@link #group}, which must have a batch upsert or upsert function.
+     * @param sqlSessionFactory Value of {@link #sqlSessionFactory}.
+     * @param idFunction Value of {@link #idFunction}.
+     * @param maximumBufferedObjects Value of {@link #maximumBufferedObjects}, must be at least one.
+     * @param flushInterval The time between writes of the buffer.
+     */
+    public WriteBehindBuffer(final DatabaseOperationGroup<T> group, final SqlSessionFactory sqlSessionFactory, final Function<T, UUID> idFunction,
+            final int maximumBufferedObjects, final Duration flushInterval) {
+        if (group.getBatchUpsertFunction() == null && group.getUpsertFunction() == null) {
+            throw new IllegalArgumentException("Write behind requires a batch upsert or upsert function");
+        }
+        if (maximumBufferedObjects < 1) {
+            throw new IllegalArgumentException("Maximum buffered objects must be at least one but was " + maximumBufferedObjects);
+        }
+        this.group = group;
+        this.sqlSessionFactory = sqlSessionFactory;
+        this.idFunction = idFunction;
+        this.maximumBufferedObjects = maximumBufferedObjects;
+        long intervalNanos = flushInterval.toNanos();
+        scheduledExecutorService.scheduleWithFixedDelay(this::scheduledFlush, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Buffers the latest state of a model object, replacing any buffered earlier state of it. Waits for the buffer to be written when it is full and
+     * neither holds nor is writing the model object.
+     *
+     * @param modelObject The latest state of the model object.
+     *
+     * @throws DatastoreSaveException Interrupted while waiting for the buffer to be written.
+     * @throws IllegalStateException The buffer has been closed.
+     */
+    public void write(final T modelObject) throws DatastoreSaveException {
+        UUID id = idFunction.apply(modelObject);
+        bufferLock.lock();
+        try {
+            while (!closed && reservedCount >= maximumBufferedObjects && !buffer.containsKey(id) && !writing.containsKey(id)) {
+                if (!flushRequested) {
+                    flushRequested = true;
+                    scheduledExecutorService.execute(this::scheduledFlush);
+                }
+                bufferWritten.await();
+            }
+            if (closed) {
+                throw new IllegalStateException("Write behind buffer is closed");
+            }
+            if (!buffer.containsKey(id) && !writing.containsKey(id)) {
+                reservedCount++;
+            }
+            buffer.put(id, modelObject);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatastoreSaveException("Interrupted waiting to buffer model object " + id, e);
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    /**
+     * Accessor for the number of model objects in the buffer.
+     *
+     * @return The number of model objects waiting to be written
+     */
+    public int getBufferedCount() {
+        bufferLock.lock();
+        try {
+            return buffer.size();
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    /**
+     * Writes the buffered model objects in one transaction. When the write fails the model objects are returned to the buffer unless a later state
+     * was buffered in the meantime.
+     *
+     * @throws DatastoreSaveException Unable to write the buffered model objects.
+     */
+    public void flush() throws DatastoreSaveException {
+        flushLock.lock();
+        try {
+            Map<UUID, T> writes = takeBuffer();
+            if (writes.isEmpty()) {
+                return;
+            }
+            try {
+                write(writes);
+            } catch (DatastoreSaveException | RuntimeException e) {
+                restoreBuffer(writes);
+                throw e;
+            }
+            releaseWritten(writes);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Stops accepting model objects and the interval writes, then writes the model objects remaining in the buffer. Callers waiting for space in the
+     * buffer are rejected.
+     *
+     * @throws DatastoreSaveException Unable to write the remaining model objects, which are kept in the buffer.
+     */
+    @Override
+    public void close() throws DatastoreSaveException {
+        bufferLock.lock();
+        try {
+            closed = true;
+            bufferWritten.signalAll();
+        } finally {
+            bufferLock.unlock();
+        }
+        scheduledExecutorService.close();
+        flush();
+    }
+
+    private void scheduledFlush() {
+        try {
+            flush();
+        } catch (DatastoreSaveException | RuntimeException e) {
+            logger.error("Unable to write buffered model objects", e);
+        }
+    }
+
+    private Map<UUID, T> takeBuffer() {
+        bufferLock.lock();
+        try {
+            writing = buffer;
+            buffer = new LinkedHashMap<>();
+            flushRequested = false;
+            return writing;
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the model objects of a failed write to the buffer. They stay counted towards the maximum, so the buffer does not grow past it.
+     *
+     * @param writes The model objects of the failed write.
+     */
+    private void restoreBuffer(final Map<UUID, T> writes) {
+        bufferLock.lock();
+        try {
+            for (Map.Entry<UUID, T> entry : writes.entrySet()) {
+                buffer.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+            writing = Map.of();
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    /**
+     * Frees the space held by the model objects of a successful write, except for IDs buffered again while it was in progress.
+     *
+     * @param writes The model objects of the successful write.
+     */
+    private void releaseWritten(final Map<UUID, T> writes) {
+        bufferLock.lock();
+        try {
+            for (UUID id : writes.keySet()) {
+                if (!buffer.containsKey(id)) {
+                    reservedCount--;
+                }
+            }
+            writing = Map.of();
+            bufferWritten.signalAll();
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    private void write(final Map<UUID, T> writes) throws DatastoreSaveException {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            BatchUpsertFunction<T, SqlSession> batchUpsertFunction = group.getBatchUpsertFunction();
+            if (batchUpsertFunction != null) {
+                batchUpsertFunction.apply(new ArrayList<>(writes.values()), sqlSession);
+            } else {
+                for (T modelObject : writes.values()) {
+                    group.getUpsertFunction().apply(modelObject, sqlSession);
+                }
+            }
+            sqlSession.commit();
+        }
+    }
+}
\ No newline at end of file
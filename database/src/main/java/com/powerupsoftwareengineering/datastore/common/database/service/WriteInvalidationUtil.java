@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.apache.ibatis.session.SqlSession;
+
+/**
+ * The <code>WriteInvalidationUtil</code> class wraps the write functions of a {@link DatabaseOperationGroup} so decorators holding copies of model
+ * objects are told which IDs were written.
+ *
+ * @author Chris Picard
+ */
+final class WriteInvalidationUtil {
+
+    private WriteInvalidationUtil() {
+    }
+
+    /**
+     * Replaces every write function of a group in a builder with one that calls an invalidation after the write succeeds. The invalidation is
+     * called once per call of a write function, with the IDs of every model object it wrote. Functions the group does not define are left unset.
+     *
+     * @param <T> The type of model object being written.
+     * @param group The database operation group whose write functions are wrapped.
+     * @param builder The builder receiving the wrapped functions.
+     * @param idFunction Function that returns the ID of a model object.
+     * @param invalidation Called with the IDs of the written model objects and the sql session used to write them.
+     */
+    static <T extends ModelObject> void decorateWrites(final DatabaseOperationGroup<T> group, final DatabaseOperationGroup.Builder<T> builder,
+            final Function<T, UUID> idFunction, final BiConsumer<Collection<UUID>, SqlSession> invalidation) {
+        decorateWrites(group, builder, idFunction, invalidation, invalidation);
+    }
+
+    /**
+     * Replaces every write function of a group in a builder with one that calls an invalidation after the write succeeds, using a separate
+     * invalidation for the delete functions. Each invalidation is called once per call of a write function, with the IDs of every model object it
+     * wrote or deleted. Functions the group does not define are left unset.
+     *
+     * @param <T> The type of model object being written.
+     * @param group The database operation group whose write functions are wrapped.
+     * @param builder The builder receiving the wrapped functions.
+     * @param idFunction Function that returns the ID of a model object.
+     * @param invalidation Called with the IDs of the stored, updated or upserted model objects and the sql session used to write them.
+     * @param deleteInvalidation Called with the IDs of the deleted model objects and the sql session used to delete them.
+     */
+    static <T extends ModelObject> void decorateWrites(final DatabaseOperationGroup<T> group, final DatabaseOperationGroup.Builder<T> builder,
+            final Function<T, UUID> idFunction, final BiConsumer<Collection<UUID>, SqlSession> invalidation,
+            final BiConsumer<Collection<UUID>, SqlSession> deleteInvalidation) {
+        StoreFunction<T, SqlSession> storeFunction = group.getStoreFunction();
+        if (storeFunction != null) {
+            builder.setStoreFunction((modelObject, sqlSession) -> {
+                storeFunction.apply(modelObject, sqlSession);
+                invalidation.accept(List.of(idFunction.apply(modelObject)), sqlSession);
+            });
+        }
+        UpdateFunction<T, SqlSession> updateFunction = group.getUpdateFunction();
+        if (updateFunction != null) {
+            builder.setUpdateFunction((updated, existing, sqlSession) -> {
+                updateFunction.apply(updated, existing, sqlSession);
+                invalidation.accept(List.of(idFunction.apply(updated)), sqlSession);
+            });
+        }
+        VersionedUpdateFunction<T, SqlSession> versionedUpdateFunction = group.getVersionedUpdateFunction();
+        if (versionedUpdateFunction != null) {
+            builder.setVersionedUpdateFunction((modelObject, sqlSession) -> {
+                versionedUpdateFunction.apply(modelObject, sqlSession);
+                invalidation.accept(List.of(idFunction.apply(modelObject)), sqlSession);
+            });
+        }
+        CascadeUpdateFunction<T, SqlSession> cascadeUpdateFunction = group.getCascadeUpdateFunction();
+        if (cascadeUpdateFunction != null) {
+            builder.setCascadeUpdateFunction((updated, existing, sqlSession) -> {
+                T result = cascadeUpdateFunction.apply(updated, existing, sqlSession);
+                invalidation.accept(List.of(idFunction.apply(updated)), sqlSession);
+                return result;
+            });
+        }
+        BatchStoreFunction<T, SqlSession> batchStoreFunction = group.getBatchStoreFunction();
+        if (batchStoreFunction != null) {
+            builder.setBatchStoreFunction((modelObjects, sqlSession) -> {
+                batchStoreFunction.apply(modelObjects, sqlSession);
+                invalidation.accept(ids(modelObjects, idFunction), sqlSession);
+            });
+        }
+        UpsertFunction<T, SqlSession> upsertFunction = group.getUpsertFunction();
+        if (upsertFunction != null) {
+            builder.setUpsertFunction((modelObject, sqlSession) -> {
+                UpsertOutcome outcome = upsertFunction.apply(modelObject, sqlSession);
+                invalidation.accept(List.of(idFunction.apply(modelObject)), sqlSession);
+                return outcome;
+            });
+        }
+        BatchUpsertFunction<T, SqlSession> batchUpsertFunction = group.getBatchUpsertFunction();
+        if (batchUpsertFunction != null) {
+            builder.setBatchUpsertFunction((modelObjects, sqlSession) -> {
+                Map<UUID, UpsertOutcome> outcomes = batchUpsertFunction.apply(modelObjects, sqlSession);
+                invalidation.accept(ids(modelObjects, idFunction), sqlSession);
+                return outcomes;
+            });
+        }
+        DeleteFunction<T, SqlSession> deleteFunction = group.getDeleteFunction();
+        if (deleteFunction != null) {
+            builder.setDeleteFunction((modelObject, sqlSession) -> {
+                deleteFunction.apply(modelObject, sqlSession);
+                deleteInvalidation.accept(List.of(idFunction.apply(modelObject)), sqlSession);
+            });
+        }
+        BulkDeleteFunction<SqlSession> bulkDeleteFunction = group.getBulkDeleteFunction();
+        if (bulkDeleteFunction != null) {
+            builder.setBulkDeleteFunction((ids, sqlSession) -> {
+                int deleted = bulkDeleteFunction.apply(ids, sqlSession);
+                deleteInvalidation.accept(ids, sqlSession);
+                return deleted;
+            });
+        }
+    }
+
+    private static <T extends ModelObject> List<UUID> ids(final Collection<T> modelObjects, final Function<T, UUID> idFunction) {
+        List<UUID> ids = new ArrayList<>(modelObjects.size());
+        for (T modelObject : modelObjects) {
+            ids.add(idFunction.apply(modelObject));
+        }
+        return ids;
+    }
+}
\ No newline at end of file
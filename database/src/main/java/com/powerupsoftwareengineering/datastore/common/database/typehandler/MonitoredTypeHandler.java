@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.typehandler;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeHandler;
+
+/**
+ * The <code>MonitoredTypeHandler</code> class wraps a type handler so slow conversions commit a {@link TypeHandlerConversionEvent} to Java Flight
+ * Recorder. Register the wrapper in place of the type handler it wraps, for example with
+ * <code>registry.register(UUID.class, new MonitoredTypeHandler&lt;&gt;(new UuidBaseTypeHandler()))</code>.
+ * <p>
+ * When the event is disabled, or the conversion is faster than the event threshold, the wrapper creates an event object that the JIT compiler can
+ * eliminate and does nothing else. Conversions that throw are recorded as well, flagged as failed.
+ *
+ * @param <T> The Java type converted by the type handler.
+ *
+ * @author Chris Picard
+ */
+@SuppressWarnings("unused")
+public class MonitoredTypeHandler<T> implements TypeHandler<T> {
+    /**
+     * The direction of a conversion of a Java value set on a statement.
+     */
+    private static final String PARAMETER = "PARAMETER";
+    /**
+     * The direction of a conversion of a JDBC value read from a result.
+     */
+    private static final String RESULT = "RESULT";
+    /**
+     * The type handler doing the conversions.
+     */
+    private final TypeHandler<T> delegate;
+
+    /**
+     * Base Constructor taking all values as parameters.
+     *
+     * @param delegate Value of {@link #delegate}.
+     */
+    public MonitoredTypeHandler(final TypeHandler<T> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void setParameter(final PreparedStatement preparedStatement, final int parameterIndex, final T parameter, final JdbcType jdbcType)
+            throws SQLException {
+        TypeHandlerConversionEvent event = new TypeHandlerConversionEvent();
+        event.begin();
+        boolean failed = true;
+        try {
+            delegate.setParameter(preparedStatement, parameterIndex, parameter, jdbcType);
+            failed = false;
+        } finally {
+            commit(event, PARAMETER, parameterIndex, null, failed);
+        }
+    }
+
+    @Override
+    public T getResult(final ResultSet resultSet, final String columnName) throws SQLException {
+        TypeHandlerConversionEvent event = new TypeHandlerConversionEvent();
+        event.begin();
+        boolean failed = true;
+        try {
+            T result = delegate.getResult(resultSet, columnName);
+            failed = false;
+            return result;
+        } finally {
+            commit(event, RESULT, 0, columnName, failed);
+        }
+    }
+
+    @Override
+    public T getResult(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        TypeHandlerConversionEvent event = new TypeHandlerConversionEvent();
+        event.begin();
+        boolean failed = true;
+        try {
+            T result = delegate.getResult(resultSet, columnIndex);
+            failed = false;
+            return result;
+        } finally {
+            commit(event, RESULT, columnIndex, null, failed);
+        }
+    }
+
+    @Override
+    public T getResult(final CallableStatement callableStatement, final int columnIndex) throws SQLException {
+        TypeHandlerConversionEvent event = new TypeHandlerConversionEvent();
+        event.begin();
+        boolean failed = true;
+        try {
+            T result = delegate.getResult(callableStatement, columnIndex);
+            failed = false;
+            return result;
+        } finally {
+            commit(event, RESULT, columnIndex, null, failed);
+        }
+    }
+
+    /**
+     * Accessor for the {@link #delegate} member variable.
+     *
+     * @return Current value of the {@link #delegate} member variable
+     */
+    public TypeHandler<T> getDelegate() {
+        return delegate;
+    }
+
+    private void commit(final TypeHandlerConversionEvent event, final String direction, final int columnIndex, final String columnName,
+            final boolean failed) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.typeHandler = delegate.getClass();
+            event.direction = direction;
+            event.column = columnName == null ? String.valueOf(columnIndex) : columnName;
+            event.failed = failed;
+            event.commit();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.typehandler;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+import jdk.jfr.Throttle;
+
+/**
+ * The <code>TypeHandlerConversionEvent</code> class is the Java Flight Recorder event committed by {@link MonitoredTypeHandler} for a slow
+ * conversion between a Java value and a JDBC value, including conversions that failed. By default only conversions taking at least one
+ * millisecond are recorded, sampled to at most 100 events a second; both can be changed in the recording settings.
+ *
+ * @author Chris Picard
+ */
+@Name("com.powerupsoftwareengineering.datastore.TypeHandlerConversion")
+@Label("Type Handler Conversion")
+@Category({"Datastore", "Type Handler"})
+@Description("A slow conversion between a Java value and a JDBC value")
+@Threshold("1 ms")
+@Throttle("100/s")
+public class TypeHandlerConversionEvent extends Event {
+    /**
+     * The class of the type handler that did the conversion.
+     */
+    @Label("Type Handler")
+    Class<?> typeHandler;
+    /**
+     * <code>PARAMETER</code> for a Java value set on a statement, <code>RESULT</code> for a JDBC value read from a result.
+     */
+    @Label("Direction")
+    String direction;
+    /**
+     * The parameter index, column index or column name converted.
+     */
+    @Label("Column")
+    String column;
+    /**
+     * Whether the conversion threw an exception.
+     */
+    @Label("Failed")
+    boolean failed;
+}
\ No newline at end of file
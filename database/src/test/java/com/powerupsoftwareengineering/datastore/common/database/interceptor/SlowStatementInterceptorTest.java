@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.interceptor;
+
+import com.powerupsoftwareengineering.datastore.common.database.typehandler.MonitoredTypeHandler;
+import com.powerupsoftwareengineering.datastore.common.database.typehandler.UuidBaseTypeHandler;
+import com.powerupsoftwareengineering.datastore.common.database.typehandler.UuidListTypeHandler;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.executor.statement.RoutingStatementHandler;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SlowStatementInterceptorTest {
+    private static final String STATEMENT_ID = "retrieveWidget";
+    private static final UUID ID = UUID.randomUUID();
+
+    @Mock
+    private Executor mockExecutor;
+    @Mock
+    private PreparedStatement mockPreparedStatement;
+    @Mock
+    private RecordingTypeHandler mockTypeHandler;
+    private Configuration configuration;
+    private MappedStatement mappedStatement;
+    private SlowStatementInterceptor instance;
+
+    @BeforeEach
+    public void setUp() {
+        configuration = new Configuration();
+        List<ParameterMapping> parameterMappings = List.of(
+                new ParameterMapping.Builder(configuration, "id", new UuidBaseTypeHandler()).build(),
+                new ParameterMapping.Builder(configuration, "tags", new UuidListTypeHandler()).build(),
+                new ParameterMapping.Builder(configuration, "name", configuration.getTypeHandlerRegistry().getTypeHandler(String.class)).build());
+        mappedStatement = new MappedStatement.Builder(configuration, STATEMENT_ID,
+                parameterObject -> new BoundSql(configuration, "select", parameterMappings, parameterObject), SqlCommandType.SELECT).build();
+        instance = new SlowStatementInterceptor(Duration.ZERO, 10);
+    }
+
+    @Test
+    public void testIntercept() throws Throwable {
+        Map<String, Object> parameters = parameters();
+        when(mockExecutor.query(any(), any(), any(), any())).thenReturn(List.of("first", "second"));
+        Invocation invocation = new Invocation(mockExecutor, Executor.class.getMethod("query", MappedStatement.class, Object.class,
+                RowBounds.class, ResultHandler.class), new Object[] {mappedStatement, parameters, RowBounds.DEFAULT, null});
+
+        assertEquals(List.of("first", "second"), instance.intercept(invocation));
+        instance.intercept(invocation);
+
+        StatementStatistics statementStatistics = instance.getStatistics().get(STATEMENT_ID);
+        assertEquals(2, statementStatistics.executorLatency().getCount());
+        assertEquals(0, statementStatistics.statementHandlerLatency().getCount());
+
+        instance.reset();
+
+        assertEquals(Map.of(), instance.getStatistics());
+    }
+
+    @Test
+    public void testIntercept_StatementHandler() throws Throwable {
+        Map<String, Object> parameters = parameters();
+        StatementHandler statementHandler = new RoutingStatementHandler(mockExecutor, mappedStatement, parameters, RowBounds.DEFAULT, null,
+                mappedStatement.getBoundSql(parameters));
+        Invocation invocation = new Invocation(statementHandler, StatementHandler.class.getMethod("update", Statement.class),
+                new Object[] {mockPreparedStatement});
+
+        instance.intercept(invocation);
+
+        assertEquals(1, instance.getStatistics().get(STATEMENT_ID).statementHandlerLatency().getCount());
+    }
+
+    @Test
+    public void testIntercept_StatementHandlerBatch() throws Throwable {
+        Map<String, Object> parameters = parameters();
+        StatementHandler statementHandler = (StatementHandler) Plugin.wrap(new RoutingStatementHandler(mockExecutor, mappedStatement,
+                parameters, RowBounds.DEFAULT, null, mappedStatement.getBoundSql(parameters)), instance);
+
+        statementHandler.batch(mockPreparedStatement);
+
+        verify(mockPreparedStatement).addBatch();
+        assertEquals(Map.of(), instance.getStatistics());
+    }
+
+    @Test
+    public void testRenderParameters() {
+        Map<String, Object> parameters = parameters();
+
+        String rendered = instance.renderParameters(mappedStatement, mappedStatement.getBoundSql(parameters));
+
+        assertEquals("id=" + ID.toString().substring(0, 10) + "..., tags=" + ID.toString().substring(0, 10) + "..., name=null", rendered);
+    }
+
+    @Test
+    public void testSetProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("maximumParameterLength", "100");
+        properties.setProperty("thresholdMillis", "1000");
+        instance.setProperties(properties);
+
+        String rendered = instance.renderParameters(mappedStatement, mappedStatement.getBoundSql(parameters()));
+
+        assertEquals("id=" + ID + ", tags=" + ID + ", name=null", rendered);
+    }
+
+    @Test
+    public void testRenderParameters_MonitoredTypeHandler() throws Exception {
+        MonitoredTypeHandler<UUID> monitoredTypeHandler = spy(new MonitoredTypeHandler<>(new UuidBaseTypeHandler()));
+        BoundSql boundSql = new BoundSql(configuration, "select",
+                List.of(new ParameterMapping.Builder(configuration, "id", monitoredTypeHandler).build()), parameters());
+
+        String rendered = instance.renderParameters(mappedStatement, boundSql);
+
+        assertEquals("id=" + ID.toString().substring(0, 10) + "...", rendered);
+        verify(monitoredTypeHandler, never()).setParameter(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    public void testRenderParameters_UnknownTypeHandler() {
+        BoundSql boundSql = new BoundSql(configuration, "select",
+                List.of(new ParameterMapping.Builder(configuration, "id", new MonitoredTypeHandler<>(mockTypeHandler)).build()), parameters());
+
+        String rendered = instance.renderParameters(mappedStatement, boundSql);
+
+        assertEquals("id=" + ID.toString().substring(0, 10) + "...", rendered);
+        verifyNoInteractions(mockTypeHandler);
+    }
+
+    private static Map<String, Object> parameters() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("id", ID);
+        parameters.put("tags", List.of(ID));
+        parameters.put("name", null);
+        return parameters;
+    }
+
+    private static class RecordingTypeHandler implements TypeHandler<Object> {
+        @Override
+        public void setParameter(final PreparedStatement preparedStatement, final int parameterIndex, final Object parameter,
+                final JdbcType jdbcType) {
+        }
+
+        @Override
+        public Object getResult(final ResultSet resultSet, final String columnName) {
+            return null;
+        }
+
+        @Override
+        public Object getResult(final ResultSet resultSet, final int columnIndex) {
+            return null;
+        }
+
+        @Override
+        public Object getResult(final CallableStatement callableStatement, final int columnIndex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.interceptor;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class StatementBudgetInterceptorTest {
+    private static final String STATEMENT_ID = "retrieveWidget";
+
+    @Mock
+    private Executor mockExecutor;
+    private MappedStatement mappedStatement;
+
+    @BeforeEach
+    public void setUp() {
+        Configuration configuration = new Configuration();
+        mappedStatement = new MappedStatement.Builder(configuration, STATEMENT_ID,
+                parameterObject -> new BoundSql(configuration, "select", List.of(), parameterObject), SqlCommandType.SELECT).build();
+    }
+
+    @Test
+    public void testIntercept_RepeatedStatement() throws Throwable {
+        StatementBudgetInterceptor instance = new StatementBudgetInterceptor(0, 3, StatementBudgetEnforcement.FAIL);
+
+        try (StatementBudgetScope scope = instance.begin("cascade")) {
+            UUID id = UUID.randomUUID();
+            instance.intercept(invocation(id));
+            instance.intercept(invocation(id));
+            instance.intercept(invocation(UUID.randomUUID()));
+
+            assertEquals(Map.of(), scope.getRepeatedStatements());
+
+            instance.intercept(invocation(UUID.randomUUID()));
+            instance.intercept(invocation(UUID.randomUUID()));
+
+            assertEquals(Map.of(STATEMENT_ID, 4), scope.getRepeatedStatements());
+            assertEquals(5, scope.getStatementCount());
+            assertEquals("cascade", scope.getName());
+        }
+        verify(mockExecutor, times(5)).update(eq(mappedStatement), any());
+    }
+
+    @Test
+    public void testIntercept_BudgetFails() throws Throwable {
+        StatementBudgetInterceptor instance = new StatementBudgetInterceptor(2, 0, StatementBudgetEnforcement.FAIL);
+
+        try (StatementBudgetScope scope = instance.begin("retrieve")) {
+            instance.intercept(invocation(null));
+            instance.intercept(invocation(null));
+
+            assertThrows(StatementBudgetExceededException.class, () -> instance.intercept(invocation(null)));
+            assertEquals(2, scope.getMaximumStatements());
+        }
+        verify(mockExecutor, times(2)).update(mappedStatement, null);
+    }
+
+    @Test
+    public void testIntercept_BudgetWarns() throws Throwable {
+        StatementBudgetInterceptor instance = new StatementBudgetInterceptor();
+        Properties properties = new Properties();
+        properties.setProperty("maximumStatements", "1");
+        properties.setProperty("enforcement", "WARN");
+        instance.setProperties(properties);
+
+        instance.intercept(invocation(null));
+        instance.intercept(invocation(null));
+
+        verify(mockExecutor, times(2)).update(mappedStatement, null);
+    }
+
+    @Test
+    public void testIntercept_SessionScopes() throws Throwable {
+        StatementBudgetInterceptor instance = new StatementBudgetInterceptor(1, 0, StatementBudgetEnforcement.FAIL);
+        Executor otherExecutor = mock(Executor.class);
+
+        instance.intercept(invocation(null));
+        instance.intercept(new Invocation(otherExecutor, updateMethod(), new Object[] {mappedStatement, null}));
+
+        assertThrows(StatementBudgetExceededException.class, () -> instance.intercept(invocation(null)));
+    }
+
+    @Test
+    public void testBegin_Nested() throws Throwable {
+        StatementBudgetInterceptor instance = new StatementBudgetInterceptor(0, 0, StatementBudgetEnforcement.FAIL);
+
+        try (StatementBudgetScope outer = instance.begin("outer")) {
+            try (StatementBudgetScope inner = instance.begin("inner")) {
+                instance.intercept(invocation(null));
+
+                assertEquals(1, inner.getStatementCount());
+            }
+            instance.intercept(invocation(null));
+
+            assertEquals(2, outer.getStatementCount());
+            assertEquals(2, outer.getStatementCount(STATEMENT_ID));
+        }
+    }
+
+    @Test
+    public void testBegin_ScopeBudget() throws Throwable {
+        StatementBudgetInterceptor instance = new StatementBudgetInterceptor(0, 0, StatementBudgetEnforcement.FAIL);
+
+        try (StatementBudgetScope outer = instance.begin("outer", 2)) {
+            try (StatementBudgetScope inner = instance.begin("inner")) {
+                instance.intercept(invocation(null));
+                instance.intercept(invocation(null));
+
+                assertEquals(0, inner.getMaximumStatements());
+            }
+            assertThrows(StatementBudgetExceededException.class, () -> instance.intercept(invocation(null)));
+            assertEquals(2, outer.getMaximumStatements());
+        }
+        verify(mockExecutor, times(2)).update(mappedStatement, null);
+    }
+
+    @Test
+    public void testBegin_OutOfOrderClose() throws Throwable {
+        StatementBudgetInterceptor instance = new StatementBudgetInterceptor(0, 0, StatementBudgetEnforcement.FAIL);
+        StatementBudgetScope outer = instance.begin("outer");
+        StatementBudgetScope inner = instance.begin("inner");
+
+        outer.close();
+        inner.close();
+        instance.intercept(invocation(null));
+
+        assertEquals(0, inner.getStatementCount());
+        assertEquals(0, outer.getStatementCount());
+
+        try (StatementBudgetScope scope = instance.begin("next")) {
+            instance.intercept(invocation(null));
+
+            assertEquals(1, scope.getStatementCount());
+            assertEquals(0, outer.getStatementCount());
+        }
+    }
+
+    private Invocation invocation(final Object parameter) throws NoSuchMethodException {
+        return new Invocation(mockExecutor, updateMethod(), new Object[] {mappedStatement, parameter});
+    }
+
+    private static Method updateMethod() throws NoSuchMethodException {
+        return Executor.class.getMethod("update", MappedStatement.class, Object.class);
+    }
+}
\ No newline at end of file
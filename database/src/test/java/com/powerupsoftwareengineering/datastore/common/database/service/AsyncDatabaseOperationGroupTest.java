@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreSaveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import com.powerupsoftwareengineering.lambda.functions.api.TwoParameterFunction;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncDatabaseOperationGroupTest {
+    private static final UUID ID = UUID.randomUUID();
+
+    @Mock
+    private StoreFunction<ModelObject, SqlSession> mockStoreFunction;
+    @Mock
+    private UpdateFunction<ModelObject, SqlSession> mockUpdateFunction;
+    @Mock
+    private TwoParameterFunction<UUID, SqlSession, ModelObject> mockRetrieveFunction;
+    @Mock
+    private SqlSessionFactory mockSqlSessionFactory;
+    @Mock
+    private SqlSession mockSqlSession;
+    private AsyncDatabaseOperationGroup<ModelObject> instance;
+
+    @BeforeEach
+    public void setUp() {
+        instance = new AsyncDatabaseOperationGroup<>(new DatabaseOperationGroup<>(mockStoreFunction, mockUpdateFunction, mockRetrieveFunction),
+                mockSqlSessionFactory, 2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        instance.close();
+    }
+
+    @Test
+    public void testStore() throws Exception {
+        when(mockSqlSessionFactory.openSession()).thenReturn(mockSqlSession);
+        ModelObject modelObject = mock(ModelObject.class);
+
+        instance.store(modelObject).get();
+
+        verify(mockStoreFunction, times(1)).apply(modelObject, mockSqlSession);
+        verify(mockSqlSession, times(1)).commit();
+        verify(mockSqlSession, times(1)).close();
+    }
+
+    @Test
+    public void testUpdate_Failure() throws Exception {
+        when(mockSqlSessionFactory.openSession()).thenReturn(mockSqlSession);
+        ModelObject updated = mock(ModelObject.class);
+        ModelObject existing = mock(ModelObject.class);
+        doThrow(new DatastoreSaveException("failed")).when(mockUpdateFunction).apply(updated, existing, mockSqlSession);
+
+        ExecutionException result = assertThrows(ExecutionException.class, () -> instance.update(updated, existing).get());
+
+        assertInstanceOf(DatastoreSaveException.class, result.getCause());
+        verify(mockSqlSession, never()).commit();
+        verify(mockSqlSession, times(1)).close();
+    }
+
+    @Test
+    public void testUpdate_Error() throws Exception {
+        when(mockSqlSessionFactory.openSession()).thenReturn(mockSqlSession);
+        ModelObject updated = mock(ModelObject.class);
+        ModelObject existing = mock(ModelObject.class);
+        doThrow(new StackOverflowError()).when(mockUpdateFunction).apply(updated, existing, mockSqlSession);
+
+        ExecutionException result = assertThrows(ExecutionException.class, () -> instance.update(updated, existing).get());
+
+        assertInstanceOf(StackOverflowError.class, result.getCause());
+        verify(mockSqlSession, never()).commit();
+        verify(mockSqlSession, times(1)).close();
+    }
+
+    @Test
+    public void testRetrieve() throws Exception {
+        when(mockSqlSessionFactory.openSession()).thenReturn(mockSqlSession);
+        ModelObject modelObject = mock(ModelObject.class);
+        when(mockRetrieveFunction.apply(ID, mockSqlSession)).thenReturn(modelObject);
+
+        assertEquals(modelObject, instance.retrieve(ID).get());
+    }
+
+    @Test
+    public void testConstructor_InvalidConcurrency() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncDatabaseOperationGroup<>(new DatabaseOperationGroup<>(mockStoreFunction,
+                mockUpdateFunction, mockRetrieveFunction), mockSqlSessionFactory, 0));
+    }
+}
\ No newline at end of file
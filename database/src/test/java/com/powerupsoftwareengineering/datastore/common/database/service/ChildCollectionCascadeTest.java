@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreDeleteException;
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreSaveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChildCollectionCascadeTest {
+    private final Map<ModelObject, UUID> ids = new HashMap<>();
+
+    @Mock
+    private StoreFunction<ModelObject, SqlSession> mockStoreFunction;
+    @Mock
+    private BatchStoreFunction<ModelObject, SqlSession> mockBatchStoreFunction;
+    @Mock
+    private UpdateFunction<ModelObject, SqlSession> mockUpdateFunction;
+    @Mock
+    private DeleteFunction<ModelObject, SqlSession> mockDeleteFunction;
+    @Mock
+    private BulkDeleteFunction<SqlSession> mockBulkDeleteFunction;
+    @Mock
+    private SqlSession mockSqlSession;
+
+    @Test
+    public void testCascade_Batched() throws Exception {
+        ChildCollectionCascade<ModelObject> instance = new ChildCollectionCascade<>(new DatabaseOperationGroup.Builder<ModelObject>()
+                .setStoreFunction(mockStoreFunction)
+                .setBatchStoreFunction(mockBatchStoreFunction)
+                .setUpdateFunction(mockUpdateFunction)
+                .setDeleteFunction(mockDeleteFunction)
+                .setBulkDeleteFunction(mockBulkDeleteFunction)
+                .build(), ids::get);
+        ModelObject unchanged = createChild(UUID.randomUUID());
+        UUID changedId = UUID.randomUUID();
+        ModelObject changedExisting = createChild(changedId);
+        ModelObject changedUpdated = createChild(changedId);
+        ModelObject added = createChild(UUID.randomUUID());
+        ModelObject removed = createChild(UUID.randomUUID());
+
+        instance.cascade(List.of(unchanged, changedUpdated, added), List.of(unchanged, changedExisting, removed), mockSqlSession);
+
+        verify(mockBulkDeleteFunction, times(1)).apply(List.of(ids.get(removed)), mockSqlSession);
+        verify(mockBatchStoreFunction, times(1)).apply(List.of(added), mockSqlSession);
+        verify(mockUpdateFunction, times(1)).apply(changedUpdated, changedExisting, mockSqlSession);
+        verify(mockUpdateFunction, never()).apply(unchanged, unchanged, mockSqlSession);
+        verify(mockStoreFunction, never()).apply(any(), any());
+        verify(mockDeleteFunction, never()).apply(any(), any());
+    }
+
+    @Test
+    public void testCascade_Individual() throws Exception {
+        ChildCollectionCascade<ModelObject> instance = new ChildCollectionCascade<>(new DatabaseOperationGroup.Builder<ModelObject>()
+                .setStoreFunction(mockStoreFunction)
+                .setUpdateFunction(mockUpdateFunction)
+                .setDeleteFunction(mockDeleteFunction)
+                .build(), ids::get);
+        ModelObject added = createChild(UUID.randomUUID());
+        ModelObject removed = createChild(UUID.randomUUID());
+
+        instance.cascade(List.of(added), List.of(removed), mockSqlSession);
+
+        verify(mockDeleteFunction, times(1)).apply(removed, mockSqlSession);
+        verify(mockStoreFunction, times(1)).apply(added, mockSqlSession);
+    }
+
+    @Test
+    public void testCascade_LockOrder() throws Exception {
+        ChildCollectionCascade<ModelObject> instance = new ChildCollectionCascade<>(new DatabaseOperationGroup.Builder<ModelObject>()
+                .setStoreFunction(mockStoreFunction)
+                .build(), ids::get);
+        ModelObject high = createChild(new UUID(Long.MIN_VALUE, 0));
+        ModelObject low = createChild(new UUID(Long.MAX_VALUE, 0));
+
+        instance.cascade(List.of(high, low), List.of(), mockSqlSession);
+
+        InOrder inOrder = inOrder(mockStoreFunction);
+        inOrder.verify(mockStoreFunction).apply(low, mockSqlSession);
+        inOrder.verify(mockStoreFunction).apply(high, mockSqlSession);
+    }
+
+    @Test
+    public void testCascade_LockOrderAcrossKinds() throws Exception {
+        ChildCollectionCascade<ModelObject> instance = new ChildCollectionCascade<>(new DatabaseOperationGroup.Builder<ModelObject>()
+                .setStoreFunction(mockStoreFunction)
+                .setBatchStoreFunction(mockBatchStoreFunction)
+                .setUpdateFunction(mockUpdateFunction)
+                .setBulkDeleteFunction(mockBulkDeleteFunction)
+                .build(), ids::get);
+        UUID changedId = new UUID(0x4000000000000000L, 0);
+        ModelObject firstAdded = createChild(new UUID(1, 0));
+        ModelObject secondAdded = createChild(new UUID(2, 0));
+        ModelObject changedExisting = createChild(changedId);
+        ModelObject changedUpdated = createChild(changedId);
+        ModelObject removed = createChild(new UUID(0x8000000000000000L, 0));
+
+        instance.cascade(List.of(secondAdded, changedUpdated, firstAdded), List.of(removed, changedExisting), mockSqlSession);
+
+        InOrder inOrder = inOrder(mockBatchStoreFunction, mockUpdateFunction, mockBulkDeleteFunction);
+        inOrder.verify(mockBatchStoreFunction).apply(List.of(firstAdded, secondAdded), mockSqlSession);
+        inOrder.verify(mockUpdateFunction).apply(changedUpdated, changedExisting, mockSqlSession);
+        inOrder.verify(mockBulkDeleteFunction).apply(List.of(ids.get(removed)), mockSqlSession);
+    }
+
+    @Test
+    public void testCascade_DeleteFailure() throws Exception {
+        ChildCollectionCascade<ModelObject> instance = new ChildCollectionCascade<>(new DatabaseOperationGroup.Builder<ModelObject>()
+                .setDeleteFunction(mockDeleteFunction)
+                .build(), ids::get);
+        ModelObject removed = createChild(UUID.randomUUID());
+        doThrow(new DatastoreDeleteException("failed")).when(mockDeleteFunction).apply(removed, mockSqlSession);
+
+        assertThrows(DatastoreSaveException.class, () -> instance.cascade(List.of(), List.of(removed), mockSqlSession));
+    }
+
+    private ModelObject createChild(final UUID id) {
+        ModelObject child = mock(ModelObject.class);
+        ids.put(child, id);
+        return child;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class ChildDiffTest {
+    private final Map<ModelObject, UUID> ids = new HashMap<>();
+
+    @Test
+    public void testOf() {
+        ModelObject unchanged = createChild(UUID.randomUUID());
+        UUID changedId = UUID.randomUUID();
+        ModelObject changedExisting = createChild(changedId);
+        ModelObject changedUpdated = createChild(changedId);
+        ModelObject added = createChild(UUID.randomUUID());
+        ModelObject removed = createChild(UUID.randomUUID());
+
+        ChildDiff<ModelObject> result = ChildDiff.of(List.of(added, changedUpdated, unchanged), List.of(unchanged, removed, changedExisting),
+                ids::get);
+
+        assertEquals(List.of(added), result.added());
+        assertEquals(List.of(removed), result.removed());
+        assertEquals(List.of(new ChildUpdate<>(changedUpdated, changedExisting)), result.changed());
+        assertEquals(List.of(new ChildUpdate<>(unchanged, unchanged)), result.unchanged());
+    }
+
+    @Test
+    public void testOf_EqualsById() {
+        UUID changedId = UUID.randomUUID();
+        UUID unchangedId = UUID.randomUUID();
+        Named changedExisting = new Named(changedId, "old");
+        Named changedUpdated = new Named(changedId, "new");
+        Named unchangedExisting = new Named(unchangedId, "same");
+        Named unchangedUpdated = new Named(unchangedId, "same");
+
+        ChildDiff<Named> result = ChildDiff.of(List.of(changedUpdated, unchangedUpdated), List.of(changedExisting, unchangedExisting), Named::id);
+
+        assertEquals(List.of(new ChildUpdate<>(changedUpdated, changedExisting)), result.changed());
+        assertEquals(List.of(new ChildUpdate<>(unchangedUpdated, unchangedExisting)), result.unchanged());
+    }
+
+    @Test
+    public void testOf_Empty() {
+        ModelObject existing = createChild(UUID.randomUUID());
+
+        ChildDiff<ModelObject> result = ChildDiff.of(List.of(), List.of(existing), ids::get);
+
+        assertEquals(List.of(), result.added());
+        assertEquals(List.of(existing), result.removed());
+    }
+
+    private ModelObject createChild(final UUID id) {
+        ModelObject child = mock(ModelObject.class);
+        ids.put(child, id);
+        return child;
+    }
+
+    private static final class Named {
+        private final UUID id;
+        private final String name;
+
+        Named(final UUID id, final String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        UUID id() {
+            return id;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof Named named && id.equals(named.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return id.hashCode();
+        }
+    }
+}
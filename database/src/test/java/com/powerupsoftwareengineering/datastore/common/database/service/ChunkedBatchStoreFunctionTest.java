@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreBatchSaveException;
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreSaveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.executor.BatchExecutorException;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChunkedBatchStoreFunctionTest {
+    private final Map<ModelObject, UUID> ids = new HashMap<>();
+
+    @Mock
+    private StoreFunction<ModelObject, SqlSession> mockStoreFunction;
+    @Mock
+    private SqlSession mockSqlSession;
+    private ModelObject first;
+    private ModelObject second;
+    private ModelObject third;
+    private ChunkedBatchStoreFunction<ModelObject> instance;
+
+    @BeforeEach
+    public void setUp() {
+        first = createModelObject();
+        second = createModelObject();
+        third = createModelObject();
+        instance = new ChunkedBatchStoreFunction<>(mockStoreFunction, ids::get, 2);
+    }
+
+    @Test
+    public void testApply() throws Exception {
+        instance.apply(List.of(first, second, third), mockSqlSession);
+
+        verify(mockStoreFunction, times(1)).apply(first, mockSqlSession);
+        verify(mockStoreFunction, times(1)).apply(second, mockSqlSession);
+        verify(mockStoreFunction, times(1)).apply(third, mockSqlSession);
+        verify(mockSqlSession, times(2)).flushStatements();
+    }
+
+    @Test
+    public void testApply_StoreFailure() throws Exception {
+        doThrow(new DatastoreSaveException("failed")).when(mockStoreFunction).apply(first, mockSqlSession);
+
+        DatastoreBatchSaveException result = assertThrows(DatastoreBatchSaveException.class,
+                () -> instance.apply(List.of(first, second, third), mockSqlSession));
+
+        assertEquals(List.of(ids.get(first)), result.getFailedIds());
+    }
+
+    @Test
+    public void testApply_FlushFailure_PerRowResults() {
+        BatchResult successfulResult = new BatchResult(null, "insert", first);
+        BatchUpdateException batchUpdateException = new BatchUpdateException(new int[] {1, Statement.EXECUTE_FAILED}, null);
+        BatchExecutorException batchExecutorException = new BatchExecutorException("failed", batchUpdateException, List.of(successfulResult),
+                new BatchResult(null, "insert"));
+        when(mockSqlSession.flushStatements()).thenReturn(List.of()).thenThrow(new PersistenceException(batchExecutorException));
+        instance = new ChunkedBatchStoreFunction<>(mockStoreFunction, ids::get, 3);
+
+        DatastoreBatchSaveException result = assertThrows(DatastoreBatchSaveException.class,
+                () -> instance.apply(List.of(second, first, third, first, second, third), mockSqlSession));
+
+        assertEquals(List.of(ids.get(third)), result.getFailedIds());
+    }
+
+    @Test
+    public void testApply_FlushFailure_WrappedParameters() {
+        BatchResult successfulResult = new BatchResult(null, "insert", new Object());
+        successfulResult.addParameterObject(new Object());
+        BatchUpdateException batchUpdateException = new BatchUpdateException(new int[] {Statement.EXECUTE_FAILED}, null);
+        BatchExecutorException batchExecutorException = new BatchExecutorException("failed", batchUpdateException, List.of(successfulResult),
+                new BatchResult(null, "insert"));
+        when(mockSqlSession.flushStatements()).thenThrow(new PersistenceException(batchExecutorException));
+        instance = new ChunkedBatchStoreFunction<>(mockStoreFunction, ids::get, 3);
+
+        DatastoreBatchSaveException result = assertThrows(DatastoreBatchSaveException.class,
+                () -> instance.apply(List.of(first, second, third), mockSqlSession));
+
+        assertEquals(List.of(ids.get(third)), result.getFailedIds());
+    }
+
+    @Test
+    public void testApply_FlushFailure_SeveralStatementsPerModelObject() {
+        BatchResult parentResult = new BatchResult(null, "insertParent", first);
+        BatchResult childResult = new BatchResult(null, "insertChild", first);
+        BatchResult secondParentResult = new BatchResult(null, "insertParent", second);
+        BatchUpdateException batchUpdateException = new BatchUpdateException(new int[] {Statement.EXECUTE_FAILED}, null);
+        BatchExecutorException batchExecutorException = new BatchExecutorException("failed", batchUpdateException,
+                List.of(parentResult, childResult, secondParentResult), new BatchResult(null, "insertChild"));
+        when(mockSqlSession.flushStatements()).thenThrow(new PersistenceException(batchExecutorException));
+        instance = new ChunkedBatchStoreFunction<>(mockStoreFunction, ids::get, 3, 2);
+
+        DatastoreBatchSaveException result = assertThrows(DatastoreBatchSaveException.class,
+                () -> instance.apply(List.of(first, second, third), mockSqlSession));
+
+        assertEquals(List.of(ids.get(second), ids.get(third)), result.getFailedIds());
+    }
+
+    @Test
+    public void testApply_FlushFailure_NoPerRowResults() {
+        when(mockSqlSession.flushStatements()).thenThrow(new PersistenceException("failed"));
+
+        DatastoreBatchSaveException result = assertThrows(DatastoreBatchSaveException.class,
+                () -> instance.apply(List.of(first, second, third), mockSqlSession));
+
+        assertEquals(List.of(ids.get(first), ids.get(second)), result.getFailedIds());
+    }
+
+    @Test
+    public void testConstructor_InvalidChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedBatchStoreFunction<>(mockStoreFunction, ids::get, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedBatchStoreFunction<>(mockStoreFunction, ids::get, 1, 0));
+    }
+
+    private ModelObject createModelObject() {
+        ModelObject modelObject = mock(ModelObject.class);
+        ids.put(modelObject, UUID.randomUUID());
+        return modelObject;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreBatchSaveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChunkedBatchUpsertFunctionTest {
+    private final Map<ModelObject, UUID> ids = new HashMap<>();
+
+    @Mock
+    private StoreFunction<ModelObject, SqlSession> mockUpsertStatementFunction;
+    @Mock
+    private SqlSession mockSqlSession;
+    private ModelObject first;
+    private ModelObject second;
+    private ChunkedBatchUpsertFunction<ModelObject> instance;
+
+    @BeforeEach
+    public void setUp() {
+        first = createModelObject();
+        second = createModelObject();
+        instance = new ChunkedBatchUpsertFunction<>(mockUpsertStatementFunction, ids::get, UpsertOutcome::fromAffectedRows);
+    }
+
+    @Test
+    public void testApply() throws Exception {
+        BatchResult batchResult = new BatchResult(null, "upsert");
+        batchResult.addParameterObject(new Object());
+        batchResult.addParameterObject(new Object());
+        batchResult.setUpdateCounts(new int[] {1, 2});
+        when(mockSqlSession.flushStatements()).thenReturn(List.of(batchResult));
+
+        Map<UUID, UpsertOutcome> result = instance.apply(List.of(first, second), mockSqlSession);
+
+        assertEquals(Map.of(ids.get(first), UpsertOutcome.INSERTED, ids.get(second), UpsertOutcome.UPDATED), result);
+    }
+
+    @Test
+    public void testApply_SuccessNoInfo() throws Exception {
+        BatchResult batchResult = new BatchResult(null, "upsert", first);
+        batchResult.setUpdateCounts(new int[] {Statement.SUCCESS_NO_INFO});
+        when(mockSqlSession.flushStatements()).thenReturn(List.of(batchResult));
+
+        Map<UUID, UpsertOutcome> result = instance.apply(List.of(first), mockSqlSession);
+
+        assertEquals(Map.of(ids.get(first), UpsertOutcome.UNKNOWN), result);
+    }
+
+    @Test
+    public void testApply_NoUpdateCounts() {
+        when(mockSqlSession.flushStatements()).thenReturn(List.of());
+
+        DatastoreBatchSaveException result = assertThrows(DatastoreBatchSaveException.class,
+                () -> instance.apply(List.of(first), mockSqlSession));
+
+        assertEquals(List.of(ids.get(first)), result.getFailedIds());
+    }
+
+    @Test
+    public void testApply_UnrecognizedUpdateCount() {
+        BatchResult batchResult = new BatchResult(null, "upsert", first);
+        batchResult.addParameterObject(second);
+        batchResult.setUpdateCounts(new int[] {1, 3});
+        when(mockSqlSession.flushStatements()).thenReturn(List.of(batchResult));
+
+        DatastoreBatchSaveException result = assertThrows(DatastoreBatchSaveException.class,
+                () -> instance.apply(List.of(first, second), mockSqlSession));
+
+        assertEquals(List.of(ids.get(first), ids.get(second)), result.getFailedIds());
+    }
+
+    @Test
+    public void testApply_FlushFailure() {
+        when(mockSqlSession.flushStatements()).thenThrow(new PersistenceException("failed"));
+
+        DatastoreBatchSaveException result = assertThrows(DatastoreBatchSaveException.class,
+                () -> instance.apply(List.of(first, second), mockSqlSession));
+
+        assertEquals(List.of(ids.get(first), ids.get(second)), result.getFailedIds());
+    }
+
+    private ModelObject createModelObject() {
+        ModelObject modelObject = mock(ModelObject.class);
+        ids.put(modelObject, UUID.randomUUID());
+        return modelObject;
+    }
+}
\ No newline at end of file
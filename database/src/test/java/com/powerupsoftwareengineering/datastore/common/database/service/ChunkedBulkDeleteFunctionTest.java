@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreDeleteException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+class ChunkedBulkDeleteFunctionTest {
+    private final List<List<UUID>> deletedChunks = new ArrayList<>();
+
+    @Mock
+    private SqlSession mockSqlSession;
+
+    @Test
+    public void testApply() throws Exception {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        ChunkedBulkDeleteFunction instance = new ChunkedBulkDeleteFunction((chunk, sqlSession) -> {
+            deletedChunks.add(List.copyOf(chunk));
+            return chunk.size();
+        }, 2);
+
+        int result = instance.apply(List.of(first, second, first, third), mockSqlSession);
+
+        assertEquals(3, result);
+        assertEquals(List.of(List.of(first, second), List.of(third)), deletedChunks);
+    }
+
+    @Test
+    public void testApply_Failure() {
+        ChunkedBulkDeleteFunction instance = new ChunkedBulkDeleteFunction((chunk, sqlSession) -> {
+            throw new PersistenceException("failed");
+        });
+
+        assertThrows(DatastoreDeleteException.class, () -> instance.apply(List.of(UUID.randomUUID()), mockSqlSession));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreRetrieveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class ChunkedBulkRetrieveFunctionTest {
+    private final Map<UUID, ModelObject> stored = new HashMap<>();
+    private final Map<ModelObject, UUID> ids = new HashMap<>();
+    private final List<List<UUID>> queriedChunks = new ArrayList<>();
+
+    @Mock
+    private SqlSession mockSqlSession;
+    private ChunkedBulkRetrieveFunction<ModelObject> instance;
+
+    @BeforeEach
+    public void setUp() {
+        instance = new ChunkedBulkRetrieveFunction<>((chunk, sqlSession) -> {
+            queriedChunks.add(List.copyOf(chunk));
+            List<ModelObject> result = new ArrayList<>();
+            for (UUID id : chunk) {
+                if (stored.containsKey(id)) {
+                    result.add(stored.get(id));
+                }
+            }
+            return result;
+        }, ids::get, 2);
+    }
+
+    @Test
+    public void testApply() throws Exception {
+        UUID first = createModelObject();
+        UUID second = createModelObject();
+        UUID third = createModelObject();
+        UUID missing = UUID.randomUUID();
+
+        BulkRetrieveResult<ModelObject> result = instance.apply(List.of(first, missing, second, first, third), mockSqlSession);
+
+        assertEquals(List.of(first, second, third), new ArrayList<>(result.modelObjects().keySet()));
+        assertEquals(stored.get(second), result.modelObjects().get(second));
+        assertEquals(Set.of(missing), result.missingIds());
+        assertEquals(List.of(List.of(first, missing), List.of(second, third)), queriedChunks);
+    }
+
+    @Test
+    public void testApply_Empty() throws Exception {
+        BulkRetrieveResult<ModelObject> result = instance.apply(List.of(), mockSqlSession);
+
+        assertEquals(Map.of(), result.modelObjects());
+        assertEquals(Set.of(), result.missingIds());
+        assertEquals(List.of(), queriedChunks);
+    }
+
+    @Test
+    public void testApply_Failure() {
+        instance = new ChunkedBulkRetrieveFunction<>((chunk, sqlSession) -> {
+            throw new PersistenceException("failed");
+        }, ids::get);
+
+        assertThrows(DatastoreRetrieveException.class, () -> instance.apply(List.of(UUID.randomUUID()), mockSqlSession));
+    }
+
+    private UUID createModelObject() {
+        ModelObject modelObject = mock(ModelObject.class);
+        UUID id = UUID.randomUUID();
+        stored.put(id, modelObject);
+        ids.put(modelObject, id);
+        return id;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreDeleteException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChunkedPredicateDeleteTest {
+    private static final String PREDICATE = "expired";
+
+    @Mock
+    private SqlSessionFactory mockSqlSessionFactory;
+    @Mock
+    private SqlSession mockSqlSession;
+
+    @Test
+    public void testDelete() throws Exception {
+        when(mockSqlSessionFactory.openSession()).thenReturn(mockSqlSession);
+        Deque<Integer> chunkResults = new ArrayDeque<>(List.of(10, 10, 4));
+        ChunkedPredicateDelete<String> instance = new ChunkedPredicateDelete<>(mockSqlSessionFactory, (parameterGroup, sqlSession) -> {
+            assertEquals(PREDICATE, parameterGroup.predicate());
+            assertEquals(10, parameterGroup.limit());
+            return chunkResults.pop();
+        }, 10);
+
+        long result = instance.delete(PREDICATE);
+
+        assertEquals(24, result);
+        verify(mockSqlSession, times(3)).commit();
+        verify(mockSqlSession, times(3)).close();
+    }
+
+    @Test
+    public void testDelete_Failure() {
+        when(mockSqlSessionFactory.openSession()).thenReturn(mockSqlSession);
+        ChunkedPredicateDelete<String> instance = new ChunkedPredicateDelete<>(mockSqlSessionFactory, (parameterGroup, sqlSession) -> {
+            throw new PersistenceException("failed");
+        });
+
+        assertThrows(DatastoreDeleteException.class, () -> instance.delete(PREDICATE));
+        verify(mockSqlSession, times(1)).close();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreRetrieveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import com.powerupsoftwareengineering.lambda.functions.api.TwoParameterFunction;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CursorStreamingRetrieveFunctionTest {
+    private static final String PARAMETER = "parameter";
+
+    @Mock
+    private TwoParameterFunction<String, SqlSession, Cursor<ModelObject>> mockCursorFunction;
+    @Mock
+    private Cursor<ModelObject> mockCursor;
+    @Mock
+    private SqlSession mockSqlSession;
+    private CursorStreamingRetrieveFunction<String, ModelObject> instance;
+
+    @BeforeEach
+    public void setUp() {
+        instance = new CursorStreamingRetrieveFunction<>(mockCursorFunction);
+    }
+
+    @Test
+    public void testApply() throws Exception {
+        List<ModelObject> modelObjects = List.of(mock(ModelObject.class), mock(ModelObject.class));
+        when(mockCursorFunction.apply(PARAMETER, mockSqlSession)).thenReturn(mockCursor);
+        when(mockCursor.spliterator()).thenReturn(modelObjects.spliterator());
+
+        List<ModelObject> result;
+        try (Stream<ModelObject> stream = instance.apply(PARAMETER, mockSqlSession)) {
+            verify(mockCursor, never()).close();
+            result = stream.collect(Collectors.toList());
+        }
+
+        assertEquals(modelObjects, result);
+        verify(mockCursor, times(1)).close();
+    }
+
+    @Test
+    public void testApply_Failure() {
+        when(mockCursorFunction.apply(PARAMETER, mockSqlSession)).thenThrow(new PersistenceException("failed"));
+
+        assertThrows(DatastoreRetrieveException.class, () -> instance.apply(PARAMETER, mockSqlSession));
+    }
+}
\ No newline at end of file
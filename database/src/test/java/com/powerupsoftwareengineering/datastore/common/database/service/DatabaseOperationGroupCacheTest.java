@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import com.powerupsoftwareengineering.lambda.functions.api.TwoParameterFunction;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseOperationGroupCacheTest {
+    private static final UUID ID = UUID.randomUUID();
+
+    @Mock
+    private StoreFunction<ModelObject, SqlSession> mockStoreFunction;
+    @Mock
+    private UpdateFunction<ModelObject, SqlSession> mockUpdateFunction;
+    @Mock
+    private TwoParameterFunction<UUID, SqlSession, ModelObject> mockRetrieveFunction;
+    @Mock
+    private BulkRetrieveFunction<ModelObject, SqlSession> mockBulkRetrieveFunction;
+    @Mock
+    private BatchStoreFunction<ModelObject, SqlSession> mockBatchStoreFunction;
+    @Mock
+    private SqlSession mockSqlSession;
+    private ModelObject modelObject;
+    private DatabaseOperationGroup<ModelObject> instance;
+
+    @BeforeEach
+    public void setUp() {
+        modelObject = mock(ModelObject.class);
+        DatabaseOperationGroupCache<ModelObject> cache = new DatabaseOperationGroupCache<>(object -> ID, 100, Duration.ofMinutes(1));
+        instance = cache.decorate(new DatabaseOperationGroup.Builder<ModelObject>()
+                .setStoreFunction(mockStoreFunction)
+                .setUpdateFunction(mockUpdateFunction)
+                .setRetrieveFunction(mockRetrieveFunction)
+                .setBulkRetrieveFunction(mockBulkRetrieveFunction)
+                .setBatchStoreFunction(mockBatchStoreFunction)
+                .build());
+    }
+
+    @Test
+    public void testRetrieve_CacheHit() {
+        when(mockRetrieveFunction.apply(ID, mockSqlSession)).thenReturn(modelObject);
+
+        assertEquals(modelObject, instance.getRetrieveFunction().apply(ID, mockSqlSession));
+        assertEquals(modelObject, instance.getRetrieveFunction().apply(ID, mockSqlSession));
+
+        verify(mockRetrieveFunction, times(1)).apply(ID, mockSqlSession);
+    }
+
+    @Test
+    public void testRetrieve_NotFoundIsNotCached() {
+        assertNull(instance.getRetrieveFunction().apply(ID, mockSqlSession));
+        assertNull(instance.getRetrieveFunction().apply(ID, mockSqlSession));
+
+        verify(mockRetrieveFunction, times(2)).apply(ID, mockSqlSession);
+    }
+
+    @Test
+    public void testUpdate_Invalidates() throws Exception {
+        ModelObject updated = mock(ModelObject.class);
+        when(mockRetrieveFunction.apply(ID, mockSqlSession)).thenReturn(modelObject, updated);
+        instance.getRetrieveFunction().apply(ID, mockSqlSession);
+
+        instance.getUpdateFunction().apply(updated, modelObject, mockSqlSession);
+
+        assertEquals(updated, instance.getRetrieveFunction().apply(ID, mockSqlSession));
+        verify(mockUpdateFunction, times(1)).apply(updated, modelObject, mockSqlSession);
+        verify(mockRetrieveFunction, times(2)).apply(ID, mockSqlSession);
+    }
+
+    @Test
+    public void testStore_Invalidates() throws Exception {
+        when(mockRetrieveFunction.apply(ID, mockSqlSession)).thenReturn(modelObject);
+        instance.getRetrieveFunction().apply(ID, mockSqlSession);
+
+        instance.getStoreFunction().apply(modelObject, mockSqlSession);
+        instance.getRetrieveFunction().apply(ID, mockSqlSession);
+
+        verify(mockStoreFunction, times(1)).apply(modelObject, mockSqlSession);
+        verify(mockRetrieveFunction, times(2)).apply(ID, mockSqlSession);
+    }
+
+    @Test
+    public void testBulkRetrieve_OnlyMissesQueried() throws Exception {
+        UUID other = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        ModelObject otherObject = mock(ModelObject.class);
+        when(mockRetrieveFunction.apply(ID, mockSqlSession)).thenReturn(modelObject);
+        when(mockBulkRetrieveFunction.apply(List.of(other, missing), mockSqlSession))
+                .thenReturn(new BulkRetrieveResult<>(Map.of(other, otherObject), Set.of(missing)));
+        instance.getRetrieveFunction().apply(ID, mockSqlSession);
+
+        BulkRetrieveResult<ModelObject> result = instance.getBulkRetrieveFunction().apply(List.of(other, ID, missing), mockSqlSession);
+
+        assertEquals(List.of(other, ID), List.copyOf(result.modelObjects().keySet()));
+        assertEquals(Set.of(missing), result.missingIds());
+    }
+
+    @Test
+    public void testRetrieve_NotCachedInTransaction() {
+        when(mockRetrieveFunction.apply(ID, mockSqlSession)).thenReturn(modelObject);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            instance.getRetrieveFunction().apply(ID, mockSqlSession);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        instance.getRetrieveFunction().apply(ID, mockSqlSession);
+
+        verify(mockRetrieveFunction, times(2)).apply(ID, mockSqlSession);
+    }
+
+    @Test
+    public void testBatchStore_OneSynchronization() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            instance.getBatchStoreFunction().apply(List.of(modelObject, mock(ModelObject.class)), mockSqlSession);
+
+            assertEquals(1, TransactionSynchronizationManager.getSynchronizations().size());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
\ No newline at end of file
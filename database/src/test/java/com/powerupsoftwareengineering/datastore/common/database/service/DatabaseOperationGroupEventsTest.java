@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreConflictException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import com.powerupsoftwareengineering.lambda.functions.api.TwoParameterFunction;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseOperationGroupEventsTest {
+    private static final UUID ID = UUID.randomUUID();
+
+    @Mock
+    private StoreFunction<ModelObject, SqlSession> mockStoreFunction;
+    @Mock
+    private VersionedUpdateFunction<ModelObject, SqlSession> mockVersionedUpdateFunction;
+    @Mock
+    private TwoParameterFunction<UUID, SqlSession, ModelObject> mockRetrieveFunction;
+    @Mock
+    private SqlSession mockSqlSession;
+    @TempDir
+    private Path tempDir;
+    private DatabaseOperationGroup<ModelObject> instance;
+
+    @BeforeEach
+    public void setUp() {
+        instance = new DatabaseOperationGroupEvents<>(ModelObject.class, modelObject -> ID).decorate(new DatabaseOperationGroup.Builder<ModelObject>()
+                .setStoreFunction(mockStoreFunction)
+                .setVersionedUpdateFunction(mockVersionedUpdateFunction)
+                .setRetrieveFunction(mockRetrieveFunction)
+                .build());
+    }
+
+    @Test
+    public void testEvents() throws Exception {
+        ModelObject modelObject = mock(ModelObject.class);
+        when(mockRetrieveFunction.apply(ID, mockSqlSession)).thenReturn(modelObject);
+        doThrow(new DatastoreConflictException(ID, 2)).when(mockVersionedUpdateFunction).apply(modelObject, mockSqlSession);
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(DatastoreOperationEvent.class);
+            recording.start();
+            instance.getStoreFunction().apply(modelObject, mockSqlSession);
+            instance.getRetrieveFunction().apply(ID, mockSqlSession);
+            assertThrows(DatastoreConflictException.class, () -> instance.getVersionedUpdateFunction().apply(modelObject, mockSqlSession));
+            recording.stop();
+            Path file = tempDir.resolve("events.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        assertEquals(3, events.size());
+        assertEvent(events.get(0), "STORE", 1, "SUCCEEDED");
+        assertEvent(events.get(1), "RETRIEVE", 1, "SUCCEEDED");
+        assertEvent(events.get(2), "VERSIONED_UPDATE", 0, "CONFLICT");
+        assertEquals(ModelObject.class.getName(), events.get(0).getClass("modelClass").getName());
+    }
+
+    @Test
+    public void testDisabled() throws Exception {
+        ModelObject modelObject = mock(ModelObject.class);
+
+        instance.getStoreFunction().apply(modelObject, mockSqlSession);
+
+        assertNull(instance.getUpdateFunction());
+    }
+
+    private static void assertEvent(final RecordedEvent event, final String operation, final int rowCount, final String outcome) {
+        assertEquals(operation, event.getString("operation"));
+        assertEquals(ID.toString(), event.getString("objectId"));
+        assertEquals(rowCount, event.getInt("rowCount"));
+        assertEquals(outcome, event.getString("outcome"));
+    }
+}
\ No newline at end of file
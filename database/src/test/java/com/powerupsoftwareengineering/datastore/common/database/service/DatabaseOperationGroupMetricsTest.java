@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreConflictException;
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreErrorCategory;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import com.powerupsoftwareengineering.lambda.functions.api.TwoParameterFunction;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseOperationGroupMetricsTest {
+    @Mock
+    private StoreFunction<ModelObject, SqlSession> mockStoreFunction;
+    @Mock
+    private VersionedUpdateFunction<ModelObject, SqlSession> mockVersionedUpdateFunction;
+    @Mock
+    private TwoParameterFunction<UUID, SqlSession, ModelObject> mockRetrieveFunction;
+    @Mock
+    private BulkRetrieveFunction<ModelObject, SqlSession> mockBulkRetrieveFunction;
+    @Mock
+    private SqlSession mockSqlSession;
+    private InMemoryDatastoreMetrics metrics;
+    private DatabaseOperationGroup<ModelObject> instance;
+
+    @BeforeEach
+    public void setUp() {
+        metrics = new InMemoryDatastoreMetrics();
+        instance = new DatabaseOperationGroupMetrics<>(ModelObject.class, metrics).decorate(new DatabaseOperationGroup.Builder<ModelObject>()
+                .setStoreFunction(mockStoreFunction)
+                .setVersionedUpdateFunction(mockVersionedUpdateFunction)
+                .setRetrieveFunction(mockRetrieveFunction)
+                .setBulkRetrieveFunction(mockBulkRetrieveFunction)
+                .build());
+    }
+
+    @Test
+    public void testStore() throws Exception {
+        ModelObject modelObject = mock(ModelObject.class);
+
+        instance.getStoreFunction().apply(modelObject, mockSqlSession);
+
+        OperationMetricsSnapshot snapshot = metrics.getSnapshot(ModelObject.class, DatastoreOperation.STORE);
+        assertEquals(1, snapshot.latency().getCount());
+        assertEquals(1, snapshot.rowCount());
+        assertEquals(0, snapshot.inFlight());
+        assertNull(instance.getUpdateFunction());
+    }
+
+    @Test
+    public void testVersionedUpdate_Failure() throws Exception {
+        ModelObject modelObject = mock(ModelObject.class);
+        DatastoreConflictException conflict = new DatastoreConflictException(UUID.randomUUID(), 1);
+        doThrow(conflict).when(mockVersionedUpdateFunction).apply(modelObject, mockSqlSession);
+
+        assertSame(conflict, assertThrows(DatastoreConflictException.class,
+                () -> instance.getVersionedUpdateFunction().apply(modelObject, mockSqlSession)));
+
+        OperationMetricsSnapshot snapshot = metrics.getSnapshot(ModelObject.class, DatastoreOperation.VERSIONED_UPDATE);
+        assertEquals(Map.of(DatastoreErrorCategory.CONFLICT, 1L), snapshot.errorCounts());
+        assertEquals(0, snapshot.rowCount());
+        assertEquals(0, snapshot.inFlight());
+    }
+
+    @Test
+    public void testRetrieve() throws Exception {
+        UUID found = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        when(mockRetrieveFunction.apply(any(), any())).thenReturn(null);
+        when(mockBulkRetrieveFunction.apply(List.of(found, missing), mockSqlSession))
+                .thenReturn(new BulkRetrieveResult<>(Map.of(found, mock(ModelObject.class)), Set.of(missing)));
+
+        instance.getRetrieveFunction().apply(missing, mockSqlSession);
+        instance.getBulkRetrieveFunction().apply(List.of(found, missing), mockSqlSession);
+
+        assertEquals(0, metrics.getSnapshot(ModelObject.class, DatastoreOperation.RETRIEVE).rowCount());
+        assertEquals(1, metrics.getSnapshot(ModelObject.class, DatastoreOperation.BULK_RETRIEVE).rowCount());
+    }
+}
\ No newline at end of file
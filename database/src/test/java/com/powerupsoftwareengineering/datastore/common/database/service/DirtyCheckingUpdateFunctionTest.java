@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DirtyCheckingUpdateFunctionTest {
+    @Mock
+    private ChangedFieldUpdateFunction<ModelObject, SqlSession> mockChangedFieldUpdateFunction;
+    @Mock
+    private SqlSession mockSqlSession;
+    private DirtyCheckingUpdateFunction<ModelObject> instance;
+
+    @BeforeEach
+    public void setUp() {
+        instance = new DirtyCheckingUpdateFunction<>(mockChangedFieldUpdateFunction);
+    }
+
+    @Test
+    public void testApply_Unchanged() throws Exception {
+        ModelObject modelObject = mock(ModelObject.class);
+
+        instance.apply(modelObject, modelObject, mockSqlSession);
+
+        verify(mockChangedFieldUpdateFunction, never()).apply(any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testApply_Changed() throws Exception {
+        ModelObject updated = mock(ModelObject.class);
+        ModelObject existing = mock(ModelObject.class);
+        ArgumentCaptor<ChangedFieldParameterGroup<ModelObject>> captor = ArgumentCaptor.forClass(ChangedFieldParameterGroup.class);
+
+        instance.apply(updated, existing, mockSqlSession);
+
+        verify(mockChangedFieldUpdateFunction, times(1)).apply(captor.capture(), any());
+        assertEquals(updated, captor.getValue().modelObject());
+        assertFalse(captor.getValue().changedFields().isEmpty());
+    }
+}
\ No newline at end of file
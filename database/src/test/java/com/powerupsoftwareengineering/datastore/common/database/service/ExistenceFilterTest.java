@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import com.powerupsoftwareengineering.lambda.functions.api.TwoParameterFunction;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExistenceFilterTest {
+    private static final UUID ID = UUID.randomUUID();
+
+    @Mock
+    private StoreFunction<ModelObject, SqlSession> mockStoreFunction;
+    @Mock
+    private DeleteFunction<ModelObject, SqlSession> mockDeleteFunction;
+    @Mock
+    private BulkDeleteFunction<SqlSession> mockBulkDeleteFunction;
+    @Mock
+    private TwoParameterFunction<UUID, SqlSession, ModelObject> mockRetrieveFunction;
+    @Mock
+    private BulkRetrieveFunction<ModelObject, SqlSession> mockBulkRetrieveFunction;
+    @Mock
+    private SqlSession mockSqlSession;
+    private ExistenceFilter<ModelObject> filter;
+    private DatabaseOperationGroup<ModelObject> instance;
+
+    @BeforeEach
+    public void setUp() {
+        filter = new ExistenceFilter<>(object -> ID, 1000, 0.001, 100, Duration.ofMinutes(1));
+        instance = filter.decorate(new DatabaseOperationGroup.Builder<ModelObject>()
+                .setStoreFunction(mockStoreFunction)
+                .setDeleteFunction(mockDeleteFunction)
+                .setBulkDeleteFunction(mockBulkDeleteFunction)
+                .setRetrieveFunction(mockRetrieveFunction)
+                .setBulkRetrieveFunction(mockBulkRetrieveFunction)
+                .build());
+    }
+
+    @Test
+    public void testRetrieve_NotLoaded() {
+        assertFalse(filter.isKnownMissing(ID));
+
+        instance.getRetrieveFunction().apply(ID, mockSqlSession);
+
+        verify(mockRetrieveFunction, times(1)).apply(ID, mockSqlSession);
+    }
+
+    @Test
+    public void testRetrieve_RejectedByBloomFilter() {
+        filter.load(List.of(UUID.randomUUID()));
+
+        assertNull(instance.getRetrieveFunction().apply(ID, mockSqlSession));
+
+        verify(mockRetrieveFunction, never()).apply(any(), any());
+    }
+
+    @Test
+    public void testRetrieve_MissingIdCached() {
+        assertNull(instance.getRetrieveFunction().apply(ID, mockSqlSession));
+        assertNull(instance.getRetrieveFunction().apply(ID, mockSqlSession));
+
+        verify(mockRetrieveFunction, times(1)).apply(ID, mockSqlSession);
+    }
+
+    @Test
+    public void testStore_RecordsId() throws Exception {
+        ModelObject modelObject = mock(ModelObject.class);
+        when(mockRetrieveFunction.apply(ID, mockSqlSession)).thenReturn(modelObject);
+        filter.load(List.of());
+        assertTrue(filter.isKnownMissing(ID));
+
+        instance.getStoreFunction().apply(modelObject, mockSqlSession);
+
+        assertFalse(filter.isKnownMissing(ID));
+        assertEquals(modelObject, instance.getRetrieveFunction().apply(ID, mockSqlSession));
+        verify(mockStoreFunction, times(1)).apply(modelObject, mockSqlSession);
+    }
+
+    @Test
+    public void testDelete_MarksMissing() throws Exception {
+        ModelObject modelObject = mock(ModelObject.class);
+        filter.load(List.of(ID));
+
+        instance.getDeleteFunction().apply(modelObject, mockSqlSession);
+
+        assertTrue(filter.isKnownMissing(ID));
+        assertNull(instance.getRetrieveFunction().apply(ID, mockSqlSession));
+        verify(mockRetrieveFunction, never()).apply(any(), any());
+    }
+
+    @Test
+    public void testBulkDelete_MarksMissingOnCommit() throws Exception {
+        filter.load(List.of(ID));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            instance.getBulkDeleteFunction().apply(List.of(ID), mockSqlSession);
+            assertFalse(filter.isKnownMissing(ID));
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertTrue(filter.isKnownMissing(ID));
+    }
+
+    @Test
+    public void testBulkDelete_RolledBack() throws Exception {
+        filter.load(List.of(ID));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            instance.getBulkDeleteFunction().apply(List.of(ID), mockSqlSession);
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertFalse(filter.isKnownMissing(ID));
+    }
+
+    @Test
+    public void testBulkRetrieve_KnownMissingSkipped() throws Exception {
+        UUID other = UUID.randomUUID();
+        ModelObject otherObject = mock(ModelObject.class);
+        filter.load(List.of(other));
+        when(mockBulkRetrieveFunction.apply(List.of(other), mockSqlSession)).thenReturn(new BulkRetrieveResult<>(Map.of(other, otherObject), Set.of()));
+
+        BulkRetrieveResult<ModelObject> result = instance.getBulkRetrieveFunction().apply(List.of(ID, other), mockSqlSession);
+
+        assertEquals(Map.of(other, otherObject), result.modelObjects());
+        assertEquals(Set.of(ID), result.missingIds());
+        assertTrue(filter.isKnownMissing(ID));
+    }
+}
\ No newline at end of file
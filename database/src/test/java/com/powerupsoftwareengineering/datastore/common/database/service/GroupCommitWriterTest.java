@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreSaveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import com.powerupsoftwareengineering.lambda.functions.api.TwoParameterFunction;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GroupCommitWriterTest {
+    @Mock
+    private StoreFunction<ModelObject, SqlSession> mockStoreFunction;
+    @Mock
+    private UpdateFunction<ModelObject, SqlSession> mockUpdateFunction;
+    @Mock
+    private TwoParameterFunction<UUID, SqlSession, ModelObject> mockRetrieveFunction;
+    @Mock
+    private SqlSessionFactory mockSqlSessionFactory;
+    @Mock
+    private SqlSession mockSqlSession;
+    private GroupCommitWriter<ModelObject> instance;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        lenient().when(mockSqlSessionFactory.openSession(ExecutorType.BATCH)).thenReturn(mockSqlSession);
+        instance = new GroupCommitWriter<>(new DatabaseOperationGroup<>(mockStoreFunction, mockUpdateFunction, mockRetrieveFunction),
+                mockSqlSessionFactory, 3, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        instance.close();
+    }
+
+    @Test
+    public void testStore_OneCommitPerGroup() throws Exception {
+        ModelObject first = mock(ModelObject.class);
+        ModelObject second = mock(ModelObject.class);
+        ModelObject existing = mock(ModelObject.class);
+
+        CompletableFuture.allOf(instance.store(first), instance.store(second), instance.update(second, existing)).get();
+
+        verify(mockStoreFunction, times(1)).apply(first, mockSqlSession);
+        verify(mockUpdateFunction, times(1)).apply(second, existing, mockSqlSession);
+        verify(mockSqlSessionFactory, times(1)).openSession(ExecutorType.BATCH);
+        verify(mockSqlSession, times(1)).commit(true);
+    }
+
+    @Test
+    public void testStore_FailureIsolated() throws Exception {
+        ModelObject first = mock(ModelObject.class);
+        ModelObject second = mock(ModelObject.class);
+        ModelObject third = mock(ModelObject.class);
+        lenient().doThrow(new DatastoreSaveException("failed")).when(mockStoreFunction).apply(second, mockSqlSession);
+
+        CompletableFuture<Void> firstResult = instance.store(first);
+        CompletableFuture<Void> secondResult = instance.store(second);
+        CompletableFuture<Void> thirdResult = instance.store(third);
+
+        firstResult.get();
+        thirdResult.get();
+        ExecutionException result = assertThrows(ExecutionException.class, secondResult::get);
+        assertInstanceOf(DatastoreSaveException.class, result.getCause());
+        verify(mockStoreFunction, times(2)).apply(first, mockSqlSession);
+        verify(mockStoreFunction, times(1)).apply(third, mockSqlSession);
+        verify(mockSqlSession, times(2)).commit(true);
+    }
+
+    @Test
+    public void testStore_CommitFailure() {
+        doThrow(new PersistenceException("failed")).when(mockSqlSession).commit(true);
+
+        List<CompletableFuture<Void>> futures = List.of(instance.store(mock(ModelObject.class)), instance.store(mock(ModelObject.class)),
+                instance.store(mock(ModelObject.class)));
+
+        for (CompletableFuture<Void> future : futures) {
+            ExecutionException result = assertThrows(ExecutionException.class, future::get);
+            assertInstanceOf(DatastoreSaveException.class, result.getCause());
+        }
+    }
+
+    @Test
+    public void testStore_ErrorCompletesFutures() throws Exception {
+        doThrow(new StackOverflowError()).when(mockStoreFunction).apply(any(), any());
+
+        CompletableFuture<Void> future = instance.store(mock(ModelObject.class));
+
+        ExecutionException result = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(StackOverflowError.class, result.getCause());
+    }
+
+    @Test
+    public void testClose_CommitsQueuedWrites() throws Exception {
+        ModelObject modelObject = mock(ModelObject.class);
+
+        CompletableFuture<Void> future = instance.store(modelObject);
+        instance.close();
+
+        future.get();
+        verify(mockStoreFunction, times(1)).apply(modelObject, mockSqlSession);
+        assertThrows(IllegalStateException.class, () -> instance.store(modelObject));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreErrorCategory;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class InMemoryDatastoreMetricsTest {
+
+    @Test
+    public void testGetSnapshot() {
+        InMemoryDatastoreMetrics instance = new InMemoryDatastoreMetrics();
+        instance.started(String.class, DatastoreOperation.STORE);
+        instance.started(String.class, DatastoreOperation.STORE);
+        instance.started(String.class, DatastoreOperation.STORE);
+        instance.succeeded(String.class, DatastoreOperation.STORE, 1000, 1);
+        instance.failed(String.class, DatastoreOperation.STORE, 2000, DatastoreErrorCategory.CONCURRENCY);
+
+        OperationMetricsSnapshot snapshot = instance.getSnapshot(String.class, DatastoreOperation.STORE);
+
+        assertEquals(String.class, snapshot.modelClass());
+        assertEquals(2, snapshot.latency().getCount());
+        assertEquals(1, snapshot.rowCount());
+        assertEquals(1, snapshot.inFlight());
+        assertEquals(Map.of(DatastoreErrorCategory.CONCURRENCY, 1L), snapshot.errorCounts());
+        assertNull(instance.getSnapshot(String.class, DatastoreOperation.RETRIEVE));
+        assertNull(instance.getSnapshot(Integer.class, DatastoreOperation.STORE));
+    }
+
+    @Test
+    public void testGetSnapshots() {
+        InMemoryDatastoreMetrics instance = new InMemoryDatastoreMetrics();
+        instance.started(String.class, DatastoreOperation.RETRIEVE);
+        instance.succeeded(String.class, DatastoreOperation.RETRIEVE, 10, 0);
+        instance.started(Integer.class, DatastoreOperation.BULK_DELETE);
+        instance.succeeded(Integer.class, DatastoreOperation.BULK_DELETE, 10, 4);
+
+        assertEquals(2, instance.getSnapshots().size());
+
+        instance.reset();
+
+        assertEquals(0, instance.getSnapshots().size());
+    }
+}
\ No newline at end of file
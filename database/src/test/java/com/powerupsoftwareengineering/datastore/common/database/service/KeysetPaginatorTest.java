@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreRetrieveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class KeysetPaginatorTest {
+    private final Map<ModelObject, UUID> ids = new HashMap<>();
+    private final Map<ModelObject, Long> sortKeys = new HashMap<>();
+    private final List<ModelObject> stored = new ArrayList<>();
+    private final List<KeysetPageParameterGroup<Long>> queries = new ArrayList<>();
+
+    @Mock
+    private SqlSession mockSqlSession;
+    private KeysetPaginator<ModelObject, Long> instance;
+
+    @BeforeEach
+    public void setUp() {
+        instance = new KeysetPaginator<>((parameterGroup, sqlSession) -> {
+            queries.add(parameterGroup);
+            return stored.stream()
+                    .sorted(keysetOrder())
+                    .filter(modelObject -> parameterGroup.id() == null || sortKeys.get(modelObject) > parameterGroup.sortKey()
+                            || sortKeys.get(modelObject).equals(parameterGroup.sortKey()) && ids.get(modelObject).compareTo(parameterGroup.id()) > 0)
+                    .limit(parameterGroup.limit())
+                    .toList();
+        }, sortKeys::get, ids::get, String::valueOf, Long::valueOf);
+    }
+
+    @Test
+    public void testRetrieve() throws Exception {
+        for (long sortKey = 0; sortKey < 5; sortKey++) {
+            createModelObject(sortKey / 2);
+        }
+        List<ModelObject> expected = stored.stream().sorted(keysetOrder()).toList();
+
+        KeysetPage<ModelObject> first = instance.retrieve(null, 2, mockSqlSession);
+        KeysetPage<ModelObject> second = instance.retrieve(first.continuationToken(), 2, mockSqlSession);
+        KeysetPage<ModelObject> third = instance.retrieve(second.continuationToken(), 2, mockSqlSession);
+
+        assertEquals(expected.subList(0, 2), first.modelObjects());
+        assertEquals(expected.subList(2, 4), second.modelObjects());
+        assertEquals(expected.subList(4, 5), third.modelObjects());
+        assertNull(third.continuationToken());
+        assertEquals(ids.get(expected.get(3)), queries.get(2).id());
+        assertEquals(sortKeys.get(expected.get(3)), queries.get(2).sortKey());
+        assertEquals(3, queries.get(2).limit());
+    }
+
+    @Test
+    public void testRetrieve_LastPageFull() throws Exception {
+        createModelObject(1L);
+        createModelObject(2L);
+
+        KeysetPage<ModelObject> result = instance.retrieve(null, 2, mockSqlSession);
+
+        assertEquals(2, result.modelObjects().size());
+        assertNull(result.continuationToken());
+    }
+
+    @Test
+    public void testRetrieve_InvalidToken() {
+        assertThrows(IllegalArgumentException.class, () -> instance.retrieve("not a token", 2, mockSqlSession));
+    }
+
+    @Test
+    public void testRetrieve_InvalidPageSize() {
+        assertThrows(IllegalArgumentException.class, () -> instance.retrieve(null, 0, mockSqlSession));
+    }
+
+    @Test
+    public void testRetrieve_Failure() {
+        instance = new KeysetPaginator<>((parameterGroup, sqlSession) -> {
+            throw new PersistenceException("failed");
+        }, sortKeys::get, ids::get, String::valueOf, Long::valueOf);
+
+        assertThrows(DatastoreRetrieveException.class, () -> instance.retrieve(null, 2, mockSqlSession));
+    }
+
+    private Comparator<ModelObject> keysetOrder() {
+        return Comparator.comparing((ModelObject modelObject) -> sortKeys.get(modelObject)).thenComparing(ids::get);
+    }
+
+    private void createModelObject(final long sortKey) {
+        ModelObject modelObject = mock(ModelObject.class);
+        ids.put(modelObject, UUID.randomUUID());
+        sortKeys.put(modelObject, sortKey);
+        stored.add(modelObject);
+    }
+}
\ No newline at end of file
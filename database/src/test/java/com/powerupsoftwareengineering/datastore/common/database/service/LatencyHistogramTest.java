@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    public void testGetValueAtPercentile() {
+        LatencyHistogram instance = new LatencyHistogram();
+        for (long value = 1; value <= 1000; value++) {
+            instance.record(value * 1000);
+        }
+
+        assertEquals(1000, instance.getCount());
+        assertWithinPrecision(500_000, instance.getValueAtPercentile(50));
+        assertWithinPrecision(990_000, instance.getValueAtPercentile(99));
+        assertEquals(1_000_000, instance.getValueAtPercentile(100));
+        assertEquals(1_000_000, instance.getMaximum());
+        assertEquals(500_500, instance.getMean(), 0.001);
+    }
+
+    @Test
+    public void testRecord_SmallValuesAreExact() {
+        LatencyHistogram instance = new LatencyHistogram();
+        instance.record(-5);
+        instance.record(7);
+        instance.record(63);
+
+        assertEquals(0, instance.getValueAtPercentile(0));
+        assertEquals(7, instance.getValueAtPercentile(50));
+        assertEquals(63, instance.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testRecord_LargeValuesAreCapped() {
+        LatencyHistogram instance = new LatencyHistogram();
+        instance.record(Long.MAX_VALUE);
+
+        assertEquals((1L << 40) - 1, instance.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testCopy() {
+        LatencyHistogram instance = new LatencyHistogram();
+        instance.record(100);
+        LatencyHistogram copy = instance.copy();
+        instance.record(200);
+
+        assertEquals(1, copy.getCount());
+        assertEquals(100, copy.getMaximum());
+        assertEquals(0, new LatencyHistogram().getValueAtPercentile(50));
+        assertThrows(IllegalArgumentException.class, () -> instance.getValueAtPercentile(101));
+    }
+
+    private static void assertWithinPrecision(final long expected, final long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 32, "Expected " + expected + " but was " + actual);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreDeleteException;
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreSaveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class LevelBatchCascadeExecutorTest {
+    private final Map<ModelObject, UUID> ids = new HashMap<>();
+    private final Map<ModelObject, List<ModelObject>> children = new HashMap<>();
+
+    @Mock
+    private StoreFunction<ModelObject, SqlSession> mockStoreFunction;
+    @Mock
+    private UpdateFunction<ModelObject, SqlSession> mockUpdateFunction;
+    @Mock
+    private DeleteFunction<ModelObject, SqlSession> mockDeleteFunction;
+    @Mock
+    private UpdateFunction<Node, SqlSession> mockNodeUpdateFunction;
+    @Mock
+    private DeleteFunction<Node, SqlSession> mockNodeDeleteFunction;
+    @Mock
+    private SqlSession mockSqlSession;
+    private LevelBatchCascadeExecutor instance;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        Class<ModelObject> modelClass = (Class<ModelObject>) mock(ModelObject.class).getClass();
+        instance = new LevelBatchCascadeExecutor(List.of(new CascadeNodeType<>(modelClass, new DatabaseOperationGroup.Builder<ModelObject>()
+                .setStoreFunction(mockStoreFunction)
+                .setUpdateFunction(mockUpdateFunction)
+                .setDeleteFunction(mockDeleteFunction)
+                .build(), ids::get, this::findChildren)));
+    }
+
+    @Test
+    public void testExecute() throws Exception {
+        UUID rootId = UUID.randomUUID();
+        UUID changedId = UUID.randomUUID();
+        ModelObject unchanged = createNode(UUID.randomUUID());
+        ModelObject removed = createNode(UUID.randomUUID());
+        ModelObject existingChanged = createNode(changedId, removed);
+        ModelObject existing = createNode(rootId, unchanged, existingChanged);
+        ModelObject updatedChanged = createNode(changedId);
+        ModelObject addedGrandchild = createNode(UUID.randomUUID());
+        ModelObject added = createNode(UUID.randomUUID(), addedGrandchild);
+        ModelObject updated = createNode(rootId, unchanged, updatedChanged, added);
+
+        instance.execute(updated, existing, mockSqlSession);
+
+        InOrder inOrder = inOrder(mockDeleteFunction, mockStoreFunction, mockUpdateFunction, mockSqlSession);
+        inOrder.verify(mockDeleteFunction).apply(removed, mockSqlSession);
+        inOrder.verify(mockSqlSession).flushStatements();
+        inOrder.verify(mockUpdateFunction).apply(updatedChanged, existingChanged, mockSqlSession);
+        inOrder.verify(mockSqlSession).flushStatements();
+        inOrder.verify(mockUpdateFunction).apply(updated, existing, mockSqlSession);
+        inOrder.verify(mockSqlSession).flushStatements();
+        inOrder.verify(mockStoreFunction).apply(added, mockSqlSession);
+        inOrder.verify(mockSqlSession).flushStatements();
+        inOrder.verify(mockStoreFunction).apply(addedGrandchild, mockSqlSession);
+        inOrder.verify(mockSqlSession).flushStatements();
+        verify(mockUpdateFunction, never()).apply(unchanged, unchanged, mockSqlSession);
+    }
+
+    @Test
+    public void testExecute_BatchedPerLevel() throws Exception {
+        ModelObject first = createNode(UUID.randomUUID());
+        ModelObject second = createNode(UUID.randomUUID());
+        ModelObject root = createNode(UUID.randomUUID(), first, second);
+
+        instance.execute(root, null, mockSqlSession);
+
+        verify(mockStoreFunction, times(3)).apply(any(), any());
+        verify(mockSqlSession, times(2)).flushStatements();
+    }
+
+    @Test
+    public void testExecute_LockOrder() throws Exception {
+        ModelObject high = createNode(new UUID(Long.MIN_VALUE, 0));
+        ModelObject low = createNode(new UUID(Long.MAX_VALUE, 0));
+        ModelObject root = createNode(UUID.randomUUID(), high, low);
+
+        instance.execute(null, root, mockSqlSession);
+
+        InOrder inOrder = inOrder(mockDeleteFunction);
+        inOrder.verify(mockDeleteFunction).apply(low, mockSqlSession);
+        inOrder.verify(mockDeleteFunction).apply(high, mockSqlSession);
+        inOrder.verify(mockDeleteFunction).apply(root, mockSqlSession);
+    }
+
+    @Test
+    public void testExecute_LockOrderAcrossKinds() throws Exception {
+        UUID rootId = UUID.randomUUID();
+        UUID lowId = new UUID(1, 0);
+        UUID highId = new UUID(0x8000000000000000L, 1);
+        ModelObject removed = createNode(highId);
+        ModelObject existingChanged = createNode(lowId);
+        ModelObject updatedChanged = createNode(lowId);
+        ModelObject existing = createNode(rootId, removed, existingChanged);
+        ModelObject updated = createNode(rootId, updatedChanged);
+
+        instance.execute(updated, existing, mockSqlSession);
+
+        InOrder inOrder = inOrder(mockDeleteFunction, mockUpdateFunction);
+        inOrder.verify(mockUpdateFunction).apply(updatedChanged, existingChanged, mockSqlSession);
+        inOrder.verify(mockDeleteFunction).apply(removed, mockSqlSession);
+        inOrder.verify(mockUpdateFunction).apply(updated, existing, mockSqlSession);
+    }
+
+    @Test
+    public void testExecute_GrandchildChanged() throws Exception {
+        LevelBatchCascadeExecutor nodeExecutor = new LevelBatchCascadeExecutor(List.of(new CascadeNodeType<>(Node.class,
+                new DatabaseOperationGroup.Builder<Node>()
+                        .setUpdateFunction(mockNodeUpdateFunction)
+                        .setDeleteFunction(mockNodeDeleteFunction)
+                        .build(), Node::getId, Node::getChildren)));
+        UUID rootId = UUID.randomUUID();
+        UUID childId = UUID.randomUUID();
+        UUID grandchildId = UUID.randomUUID();
+        Node existingGrandchild = new Node(grandchildId, "old");
+        Node updatedGrandchild = new Node(grandchildId, "new");
+        Node existing = new Node(rootId, "root", new Node(childId, "child", existingGrandchild));
+        Node updated = new Node(rootId, "root", new Node(childId, "child", updatedGrandchild));
+
+        nodeExecutor.execute(updated, existing, mockSqlSession);
+
+        verify(mockNodeUpdateFunction).apply(updatedGrandchild, existingGrandchild, mockSqlSession);
+        verifyNoMoreInteractions(mockNodeUpdateFunction);
+        verifyNoInteractions(mockNodeDeleteFunction);
+    }
+
+    @Test
+    public void testExecute_DeleteFailure() throws Exception {
+        ModelObject root = createNode(UUID.randomUUID());
+        doThrow(new DatastoreDeleteException("failed")).when(mockDeleteFunction).apply(root, mockSqlSession);
+
+        assertThrows(DatastoreSaveException.class, () -> instance.execute(null, root, mockSqlSession));
+    }
+
+    private ModelObject createNode(final UUID id, final ModelObject... nodeChildren) {
+        ModelObject node = mock(ModelObject.class);
+        ids.put(node, id);
+        children.put(node, List.of(nodeChildren));
+        return node;
+    }
+
+    private Collection<ModelObject> findChildren(final ModelObject node) {
+        return children.get(node);
+    }
+
+    private static final class Node implements ModelObject {
+        private final UUID id;
+        private final String name;
+        private final List<Node> children;
+
+        Node(final UUID id, final String name, final Node... children) {
+            this.id = id;
+            this.name = name;
+            this.children = List.of(children);
+        }
+
+        UUID getId() {
+            return id;
+        }
+
+        List<Node> getChildren() {
+            return children;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof Node node && id.equals(node.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return id.hashCode();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class ModelObjectDiffUtilTest {
+
+    @Test
+    public void testFindChangedFields_Equal() {
+        Set<String> result = ModelObjectDiffUtil.findChangedFields(new Child("name", 1, List.of("a")), new Child("name", 1, List.of("a")));
+
+        assertEquals(Set.of(), result);
+    }
+
+    @Test
+    public void testFindChangedFields_Changed() {
+        Set<String> result = ModelObjectDiffUtil.findChangedFields(new Child("name", 2, List.of("a")), new Child("other", 1, List.of("a")));
+
+        assertEquals(Set.of("count", "name"), result);
+    }
+
+    @Test
+    public void testFindChangedFields_IgnoresTransient() {
+        Child updated = new Child("name", 1, List.of("a"));
+        updated.cachedHash = 1;
+
+        Set<String> result = ModelObjectDiffUtil.findChangedFields(updated, new Child("name", 1, List.of("a")));
+
+        assertEquals(Set.of(), result);
+    }
+
+    @Test
+    public void testFindChangedFields_DifferentClass() {
+        Set<String> result = ModelObjectDiffUtil.findChangedFields(new Child("name", 1, List.of("a")), new Parent("name"));
+
+        assertEquals(Set.of("count", "tags", "name"), result);
+    }
+
+    @Test
+    public void testHasChangedOwnFields_ChildrenIgnored() {
+        Holder existing = new Holder("name", List.of(mock(ModelObject.class)));
+
+        assertFalse(ModelObjectDiffUtil.hasChangedOwnFields(new Holder("name", List.of(mock(ModelObject.class))), existing));
+        assertTrue(ModelObjectDiffUtil.hasChangedOwnFields(new Holder("other", existing.children), existing));
+    }
+
+    private static class Parent {
+        private final String name;
+
+        Parent(final String name) {
+            this.name = name;
+        }
+    }
+
+    private static final class Child extends Parent {
+        private final int count;
+        private final List<String> tags;
+        private transient int cachedHash;
+
+        Child(final String name, final int count, final List<String> tags) {
+            super(name);
+            this.count = count;
+            this.tags = tags;
+        }
+    }
+
+    private static final class Holder {
+        private final String name;
+        private final List<ModelObject> children;
+
+        Holder(final String name, final List<ModelObject> children) {
+            this.name = name;
+            this.children = children;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreConflictException;
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreSaveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import com.powerupsoftwareengineering.lambda.functions.api.TwoParameterFunction;
+import java.util.UUID;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OptimisticUpdateFunctionTest {
+    private static final UUID ID = UUID.randomUUID();
+    private static final long VERSION = 7L;
+
+    @Mock
+    private TwoParameterFunction<ModelObject, SqlSession, Integer> mockUpdateStatementFunction;
+    @Mock
+    private SqlSession mockSqlSession;
+    private ModelObject modelObject;
+    private OptimisticUpdateFunction<ModelObject> instance;
+
+    @BeforeEach
+    public void setUp() {
+        modelObject = mock(ModelObject.class);
+        instance = new OptimisticUpdateFunction<>(mockUpdateStatementFunction, object -> ID, object -> VERSION);
+    }
+
+    @Test
+    public void testApply() throws Exception {
+        when(mockUpdateStatementFunction.apply(modelObject, mockSqlSession)).thenReturn(1);
+
+        instance.apply(modelObject, mockSqlSession);
+
+        verify(mockUpdateStatementFunction, times(1)).apply(modelObject, mockSqlSession);
+    }
+
+    @Test
+    public void testApply_Conflict() {
+        when(mockUpdateStatementFunction.apply(modelObject, mockSqlSession)).thenReturn(0);
+
+        DatastoreConflictException result = assertThrows(DatastoreConflictException.class, () -> instance.apply(modelObject, mockSqlSession));
+
+        assertEquals(ID, result.getId());
+        assertEquals(VERSION, result.getExpectedVersion());
+    }
+
+    @Test
+    public void testApply_Failure() {
+        when(mockUpdateStatementFunction.apply(modelObject, mockSqlSession)).thenThrow(new PersistenceException("failed"));
+
+        assertThrows(DatastoreSaveException.class, () -> instance.apply(modelObject, mockSqlSession));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreRetrieveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class RetrieveCoalescerTest {
+    private static final UUID ID = UUID.randomUUID();
+    private static final int WAITERS = 4;
+
+    private final AtomicInteger queries = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Mock
+    private SqlSession mockSqlSession;
+
+    @Test
+    public void testRetrieve_Coalesced() throws Exception {
+        ModelObject modelObject = mock(ModelObject.class);
+        RetrieveCoalescer<ModelObject> instance = new RetrieveCoalescer<>((id, sqlSession) -> {
+            queries.incrementAndGet();
+            await();
+            return modelObject;
+        });
+        List<AtomicReference<Object>> results = runConcurrently(instance);
+
+        for (AtomicReference<Object> result : results) {
+            assertSame(modelObject, result.get());
+        }
+        assertEquals(1, queries.get());
+    }
+
+    @Test
+    public void testRetrieve_FailureSharedByWaiters() throws Exception {
+        RetrieveCoalescer<ModelObject> instance = new RetrieveCoalescer<>((id, sqlSession) -> {
+            queries.incrementAndGet();
+            await();
+            throw new PersistenceException("failed");
+        });
+        List<AtomicReference<Object>> results = runConcurrently(instance);
+
+        for (AtomicReference<Object> result : results) {
+            assertTrue(result.get() instanceof DatastoreRetrieveException);
+        }
+        assertEquals(1, queries.get());
+    }
+
+    @Test
+    public void testRetrieve_NotKeptAfterCompletion() throws Exception {
+        RetrieveCoalescer<ModelObject> instance = new RetrieveCoalescer<>((id, sqlSession) -> {
+            queries.incrementAndGet();
+            return null;
+        });
+
+        instance.retrieve(ID, mockSqlSession);
+        instance.retrieve(ID, mockSqlSession);
+
+        assertEquals(2, queries.get());
+    }
+
+    @Test
+    public void testDecorate_RuntimeExceptionUnchanged() {
+        DatabaseOperationGroup<ModelObject> group = RetrieveCoalescer.decorate(new DatabaseOperationGroup.Builder<ModelObject>()
+                .setRetrieveFunction((id, sqlSession) -> {
+                    throw new PersistenceException("failed");
+                })
+                .build());
+
+        assertThrows(PersistenceException.class, () -> group.getRetrieveFunction().apply(ID, mockSqlSession));
+    }
+
+    private List<AtomicReference<Object>> runConcurrently(final RetrieveCoalescer<ModelObject> instance) throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        List<AtomicReference<Object>> results = new ArrayList<>();
+        for (int index = 0; index <= WAITERS; index++) {
+            AtomicReference<Object> result = new AtomicReference<>();
+            results.add(result);
+            threads.add(new Thread(() -> {
+                try {
+                    result.set(instance.retrieve(ID, mockSqlSession));
+                } catch (DatastoreRetrieveException e) {
+                    result.set(e);
+                }
+            }));
+        }
+        threads.get(0).start();
+        while (queries.get() == 0) {
+            Thread.onSpinWait();
+        }
+        for (Thread thread : threads.subList(1, threads.size())) {
+            thread.start();
+            while (thread.getState() != Thread.State.WAITING) {
+                Thread.onSpinWait();
+            }
+        }
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return results;
+    }
+
+    private void await() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
\ No newline at end of file
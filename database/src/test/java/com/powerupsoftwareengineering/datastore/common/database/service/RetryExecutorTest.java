@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreErrorCategory;
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreSaveException;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RetryExecutorTest {
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @Mock
+    private SqlSessionFactory mockSqlSessionFactory;
+    @Mock
+    private SqlSession mockSqlSession;
+    private RetryExecutor instance;
+
+    @BeforeEach
+    public void setUp() {
+        when(mockSqlSessionFactory.openSession()).thenReturn(mockSqlSession);
+        instance = new RetryExecutor(mockSqlSessionFactory, new RetryPolicy(3, Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofSeconds(5)));
+    }
+
+    @Test
+    public void testExecute_TransientRetried() throws Exception {
+        String result = instance.execute(sqlSession -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new DatastoreSaveException("conflict", new PersistenceException(new SQLException("conflict", "40001")));
+            }
+            return "done";
+        });
+
+        assertEquals("done", result);
+        assertEquals(2, instance.getRetryCount());
+        verify(mockSqlSession, times(1)).commit();
+        verify(mockSqlSession, times(3)).close();
+    }
+
+    @Test
+    public void testExecute_PermanentNotRetried() {
+        assertThrows(DatastoreSaveException.class, () -> instance.execute(sqlSession -> {
+            attempts.incrementAndGet();
+            throw new DatastoreSaveException("duplicate", new SQLException("duplicate", "23505"));
+        }));
+
+        assertEquals(1, attempts.get());
+        assertEquals(0, instance.getRetryCount());
+    }
+
+    @Test
+    public void testExecute_AttemptsExhausted() {
+        assertThrows(PersistenceException.class, () -> instance.execute(sqlSession -> {
+            attempts.incrementAndGet();
+            throw new PersistenceException(new SQLException("deadlock", "40P01"));
+        }));
+
+        assertEquals(3, attempts.get());
+        assertEquals(2, instance.getRetryCount());
+        assertEquals(1, instance.getExhaustedCount());
+    }
+
+    @Test
+    public void testExecute_ReportsMetrics() {
+        InMemoryDatastoreMetrics metrics = new InMemoryDatastoreMetrics();
+        RetryExecutor measured = new RetryExecutor(mockSqlSessionFactory, new RetryPolicy(3, Duration.ofMillis(1), Duration.ofMillis(5),
+                Duration.ofSeconds(5)), SqlStateClassifier::isTransient, metrics);
+
+        assertThrows(PersistenceException.class, () -> measured.execute(sqlSession -> {
+            throw new PersistenceException(new SQLException("deadlock", "40P01"));
+        }));
+
+        assertEquals(Map.of(DatastoreErrorCategory.CONCURRENCY, 2L), metrics.getRetryCounts());
+        assertEquals(Map.of(DatastoreErrorCategory.CONCURRENCY, 1L), metrics.getRetriesExhaustedCounts());
+    }
+}
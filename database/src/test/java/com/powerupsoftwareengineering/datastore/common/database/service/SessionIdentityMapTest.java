@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import com.powerupsoftwareengineering.lambda.functions.api.TwoParameterFunction;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SessionIdentityMapTest {
+    private static final UUID ID = UUID.randomUUID();
+
+    @Mock
+    private StoreFunction<ModelObject, SqlSession> mockStoreFunction;
+    @Mock
+    private TwoParameterFunction<UUID, SqlSession, ModelObject> mockRetrieveFunction;
+    @Mock
+    private BulkRetrieveFunction<ModelObject, SqlSession> mockBulkRetrieveFunction;
+    @Mock
+    private SqlSession mockSqlSession;
+    @Mock
+    private SqlSession mockOtherSqlSession;
+    private ModelObject modelObject;
+    private SessionIdentityMap identityMap;
+    private DatabaseOperationGroup<ModelObject> instance;
+
+    @BeforeEach
+    public void setUp() {
+        modelObject = mock(ModelObject.class);
+        identityMap = new SessionIdentityMap();
+        instance = identityMap.decorate(new DatabaseOperationGroup.Builder<ModelObject>()
+                .setStoreFunction(mockStoreFunction)
+                .setRetrieveFunction(mockRetrieveFunction)
+                .setBulkRetrieveFunction(mockBulkRetrieveFunction)
+                .build(), ModelObject.class, object -> ID);
+    }
+
+    @Test
+    public void testRetrieve_SameSession() {
+        when(mockRetrieveFunction.apply(ID, mockSqlSession)).thenReturn(modelObject);
+        identityMap.begin(mockSqlSession);
+
+        assertSame(modelObject, instance.getRetrieveFunction().apply(ID, mockSqlSession));
+        assertSame(modelObject, instance.getRetrieveFunction().apply(ID, mockSqlSession));
+
+        verify(mockRetrieveFunction, times(1)).apply(ID, mockSqlSession);
+    }
+
+    @Test
+    public void testRetrieve_OtherSession() {
+        when(mockRetrieveFunction.apply(ID, mockSqlSession)).thenReturn(modelObject);
+        identityMap.begin(mockSqlSession);
+        identityMap.begin(mockOtherSqlSession);
+
+        instance.getRetrieveFunction().apply(ID, mockSqlSession);
+        instance.getRetrieveFunction().apply(ID, mockOtherSqlSession);
+
+        verify(mockRetrieveFunction, times(1)).apply(ID, mockOtherSqlSession);
+    }
+
+    @Test
+    public void testRetrieve_NoScope() {
+        when(mockRetrieveFunction.apply(ID, mockSqlSession)).thenReturn(modelObject);
+
+        instance.getRetrieveFunction().apply(ID, mockSqlSession);
+        instance.getRetrieveFunction().apply(ID, mockSqlSession);
+
+        verify(mockRetrieveFunction, times(2)).apply(ID, mockSqlSession);
+    }
+
+    @Test
+    public void testCommit_Clears() {
+        when(mockRetrieveFunction.apply(ID, mockSqlSession)).thenReturn(modelObject);
+        identityMap.begin(mockSqlSession);
+        instance.getRetrieveFunction().apply(ID, mockSqlSession);
+
+        identityMap.commit(mockSqlSession);
+        instance.getRetrieveFunction().apply(ID, mockSqlSession);
+
+        verify(mockSqlSession, times(1)).commit();
+        verify(mockRetrieveFunction, times(2)).apply(ID, mockSqlSession);
+    }
+
+    @Test
+    public void testStore_Evicts() throws Exception {
+        when(mockRetrieveFunction.apply(ID, mockSqlSession)).thenReturn(modelObject);
+        identityMap.begin(mockSqlSession);
+        instance.getRetrieveFunction().apply(ID, mockSqlSession);
+
+        instance.getStoreFunction().apply(modelObject, mockSqlSession);
+        instance.getRetrieveFunction().apply(ID, mockSqlSession);
+
+        verify(mockRetrieveFunction, times(2)).apply(ID, mockSqlSession);
+    }
+
+    @Test
+    public void testBulkRetrieve_OnlyMissesQueried() throws Exception {
+        UUID other = UUID.randomUUID();
+        ModelObject otherObject = mock(ModelObject.class);
+        when(mockRetrieveFunction.apply(ID, mockSqlSession)).thenReturn(modelObject);
+        when(mockBulkRetrieveFunction.apply(List.of(other), mockSqlSession)).thenReturn(new BulkRetrieveResult<>(Map.of(other, otherObject), Set.of()));
+        identityMap.begin(mockSqlSession);
+        instance.getRetrieveFunction().apply(ID, mockSqlSession);
+
+        BulkRetrieveResult<ModelObject> result = instance.getBulkRetrieveFunction().apply(List.of(ID, other), mockSqlSession);
+
+        assertEquals(Map.of(ID, modelObject, other, otherObject), result.modelObjects());
+        assertSame(otherObject, instance.getRetrieveFunction().apply(other, mockSqlSession));
+    }
+
+    @Test
+    public void testRetrieve_SpringTransaction() {
+        when(mockRetrieveFunction.apply(ID, mockSqlSession)).thenReturn(modelObject);
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            instance.getRetrieveFunction().apply(ID, mockSqlSession);
+            instance.getRetrieveFunction().apply(ID, mockSqlSession);
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+            instance.getRetrieveFunction().apply(ID, mockSqlSession);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(mockRetrieveFunction, times(2)).apply(ID, mockSqlSession);
+    }
+
+    @Test
+    public void testRetrieve_SynchronizationWithoutTransaction() {
+        when(mockRetrieveFunction.apply(ID, mockSqlSession)).thenReturn(modelObject);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            instance.getRetrieveFunction().apply(ID, mockSqlSession);
+            instance.getRetrieveFunction().apply(ID, mockSqlSession);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(mockRetrieveFunction, times(2)).apply(ID, mockSqlSession);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreConflictException;
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreErrorCategory;
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreErrorCode;
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreSaveException;
+import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
+import java.util.UUID;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SqlStateClassifierTest {
+
+    @Test
+    public void testIsTransient_SerializationFailure() {
+        assertTrue(SqlStateClassifier.isTransient(new PersistenceException(new SQLException("conflict", "40001"))));
+    }
+
+    @Test
+    public void testIsTransient_Deadlock() {
+        assertTrue(SqlStateClassifier.isTransient(new SQLException("deadlock", "40P01")));
+        assertTrue(SqlStateClassifier.isTransient(new SQLException("deadlock", "HY000", 1213)));
+        assertTrue(SqlStateClassifier.isTransient(new SQLTransactionRollbackException("rollback")));
+    }
+
+    @Test
+    public void testIsTransient_NextException() {
+        SQLException batchFailure = new SQLException("batch failed", "22000");
+        batchFailure.setNextException(new SQLException("deadlock", "40P01"));
+
+        assertTrue(SqlStateClassifier.isTransient(batchFailure));
+    }
+
+    @Test
+    public void testIsTransient_ConstraintViolation() {
+        assertFalse(SqlStateClassifier.isTransient(new PersistenceException(new SQLException("duplicate", "23505"))));
+        assertFalse(SqlStateClassifier.isTransient(new PersistenceException("no sql exception")));
+    }
+
+    @Test
+    public void testClassify() {
+        assertEquals(DatastoreErrorCode.DEADLOCK, SqlStateClassifier.classify(new SQLException("deadlock", "40001", 1205)));
+        assertEquals(DatastoreErrorCode.LOCK_TIMEOUT, SqlStateClassifier.classify(new SQLException("lock wait", "HY000", 1205)));
+        assertEquals(DatastoreErrorCode.CONNECTION_FAILURE, SqlStateClassifier.classify(new SQLException("shutdown", "57P01")));
+        assertEquals(DatastoreErrorCode.CONSTRAINT_VIOLATION, SqlStateClassifier.classify(new SQLException("duplicate", "23505")));
+        assertEquals(DatastoreErrorCode.UNKNOWN, SqlStateClassifier.classify(new SQLException("syntax", "42601")));
+    }
+
+    @Test
+    public void testClassify_DatastoreErrorCode() {
+        DatastoreConflictException conflict = new DatastoreConflictException(UUID.randomUUID(), 3);
+
+        assertEquals(DatastoreErrorCode.VERSION_CONFLICT, SqlStateClassifier.classify(conflict));
+        assertEquals(DatastoreErrorCategory.CONFLICT, conflict.getErrorCode().getCategory());
+        assertEquals(0, conflict.getStackTrace().length);
+        assertFalse(conflict.isTransient());
+    }
+
+    @Test
+    public void testClassify_WrappedWithoutErrorCode() {
+        DatastoreSaveException failure = new DatastoreSaveException("failed", new SQLException("conflict", "40001"));
+
+        assertEquals(DatastoreErrorCode.SERIALIZATION_FAILURE, SqlStateClassifier.classify(failure));
+        assertTrue(failure.getStackTrace().length > 0);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StructuralHashCascadeUpdateFunctionTest {
+    @Mock
+    private CascadeUpdateFunction<ModelObject, SqlSession> mockCascadeUpdateFunction;
+    @Mock
+    private SqlSession mockSqlSession;
+    private StructuralHashCascadeUpdateFunction<ModelObject> instance;
+
+    @BeforeEach
+    public void setUp() {
+        instance = new StructuralHashCascadeUpdateFunction<>(mockCascadeUpdateFunction);
+    }
+
+    @Test
+    public void testApply_Unchanged() throws Exception {
+        ModelObject modelObject = mock(ModelObject.class);
+
+        assertEquals(modelObject, instance.apply(modelObject, modelObject, mockSqlSession));
+
+        verify(mockCascadeUpdateFunction, never()).apply(any(), any(), any());
+    }
+
+    @Test
+    public void testApply_Changed() throws Exception {
+        ModelObject updated = mock(ModelObject.class);
+        ModelObject cascaded = mock(ModelObject.class);
+        when(mockCascadeUpdateFunction.apply(updated, null, mockSqlSession)).thenReturn(cascaded);
+
+        assertEquals(cascaded, instance.apply(updated, null, mockSqlSession));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StructuralHashUtilTest {
+
+    @Test
+    public void testStructuralHash_EqualGraphs() {
+        assertEquals(StructuralHashUtil.structuralHash(createTree("leaf")), StructuralHashUtil.structuralHash(createTree("leaf")));
+    }
+
+    @Test
+    public void testStructuralHash_LeafChanged() {
+        assertNotEquals(StructuralHashUtil.structuralHash(createTree("leaf")), StructuralHashUtil.structuralHash(createTree("changed")));
+    }
+
+    @Test
+    public void testStructuralHash_SetOrderIgnored() {
+        Set<String> first = new LinkedHashSet<>(List.of("a", "b"));
+        Set<String> second = new LinkedHashSet<>(List.of("b", "a"));
+
+        assertEquals(StructuralHashUtil.structuralHash(new Node("root", List.of(), first, Map.of())),
+                StructuralHashUtil.structuralHash(new Node("root", List.of(), second, Map.of())));
+    }
+
+    @Test
+    public void testStructuralHash_ListOrderMatters() {
+        assertNotEquals(StructuralHashUtil.structuralHash(List.of("a", "b")), StructuralHashUtil.structuralHash(List.of("b", "a")));
+    }
+
+    @Test
+    public void testIsUnchanged() {
+        Node tree = createTree("leaf");
+
+        assertTrue(StructuralHashUtil.isUnchanged(tree, tree));
+        assertTrue(StructuralHashUtil.isUnchanged(tree, createTree("leaf")));
+        assertFalse(StructuralHashUtil.isUnchanged(tree, createTree("changed")));
+        assertFalse(StructuralHashUtil.isUnchanged(tree, null));
+    }
+
+    private Node createTree(final String leafName) {
+        Node leaf = new Node(leafName, List.of(), Set.of("tag"), Map.of("count", 1L));
+        Node branch = new Node("branch", List.of(leaf), Set.of(), Map.of());
+        return new Node("root", List.of(branch, new Node("sibling", List.of(), Set.of(), Map.of())), Set.of(), Map.of());
+    }
+
+    private static final class Node {
+        private final String name;
+        private final List<Node> children;
+        private final Set<String> tags;
+        private final Map<String, Long> attributes;
+
+        Node(final String name, final List<Node> children, final Set<String> tags, final Map<String, Long> attributes) {
+            this.name = name;
+            this.children = children;
+            this.tags = tags;
+            this.attributes = attributes;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import java.sql.Statement;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UpsertOutcomeTest {
+
+    @Test
+    public void testFromAffectedRows() {
+        assertEquals(UpsertOutcome.UNCHANGED, UpsertOutcome.fromAffectedRows(0));
+        assertEquals(UpsertOutcome.INSERTED, UpsertOutcome.fromAffectedRows(1));
+        assertEquals(UpsertOutcome.UPDATED, UpsertOutcome.fromAffectedRows(2));
+        assertEquals(UpsertOutcome.UNKNOWN, UpsertOutcome.fromAffectedRows(Statement.SUCCESS_NO_INFO));
+    }
+
+    @Test
+    public void testFromAffectedRows_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> UpsertOutcome.fromAffectedRows(3));
+    }
+
+    @Test
+    public void testFromInserted() {
+        assertEquals(UpsertOutcome.INSERTED, UpsertOutcome.fromInserted(true));
+        assertEquals(UpsertOutcome.UPDATED, UpsertOutcome.fromInserted(false));
+    }
+}
\ No newline at end of file
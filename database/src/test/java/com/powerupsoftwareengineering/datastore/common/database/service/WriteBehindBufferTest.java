@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.service;
+
+import com.powerupsoftwareengineering.datastore.common.api.exception.DatastoreSaveException;
+import com.powerupsoftwareengineering.java.immutable.model.ModelObject;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindBufferTest {
+    private static final Duration INTERVAL = Duration.ofHours(1);
+
+    private final Map<ModelObject, UUID> ids = new HashMap<>();
+
+    @Mock
+    private UpsertFunction<ModelObject, SqlSession> mockUpsertFunction;
+    @Mock
+    private BatchUpsertFunction<ModelObject, SqlSession> mockBatchUpsertFunction;
+    @Mock
+    private SqlSessionFactory mockSqlSessionFactory;
+    @Mock
+    private SqlSession mockSqlSession;
+
+    @Test
+    public void testFlush_LatestStateOnly() throws Exception {
+        when(mockSqlSessionFactory.openSession(ExecutorType.BATCH)).thenReturn(mockSqlSession);
+        UUID id = UUID.randomUUID();
+        ModelObject first = createModelObject(id);
+        ModelObject second = createModelObject(id);
+        try (WriteBehindBuffer<ModelObject> instance = createInstance(upsertGroup(), 10)) {
+            instance.write(first);
+            instance.write(second);
+
+            instance.flush();
+
+            assertEquals(0, instance.getBufferedCount());
+        }
+        verify(mockUpsertFunction, never()).apply(first, mockSqlSession);
+        verify(mockUpsertFunction, times(1)).apply(second, mockSqlSession);
+        verify(mockSqlSession, times(1)).commit();
+    }
+
+    @Test
+    public void testFlush_BatchUpsert() throws Exception {
+        when(mockSqlSessionFactory.openSession(ExecutorType.BATCH)).thenReturn(mockSqlSession);
+        ModelObject first = createModelObject(UUID.randomUUID());
+        ModelObject second = createModelObject(UUID.randomUUID());
+        try (WriteBehindBuffer<ModelObject> instance = createInstance(new DatabaseOperationGroup.Builder<ModelObject>()
+                .setBatchUpsertFunction(mockBatchUpsertFunction)
+                .build(), 10)) {
+            instance.write(first);
+            instance.write(second);
+        }
+
+        verify(mockBatchUpsertFunction, times(1)).apply(List.of(first, second), mockSqlSession);
+    }
+
+    @Test
+    public void testFlush_FailureRestoresBuffer() throws Exception {
+        when(mockSqlSessionFactory.openSession(ExecutorType.BATCH)).thenReturn(mockSqlSession);
+        ModelObject modelObject = createModelObject(UUID.randomUUID());
+        when(mockUpsertFunction.apply(modelObject, mockSqlSession)).thenThrow(new DatastoreSaveException("failed")).thenReturn(UpsertOutcome.UPDATED);
+        try (WriteBehindBuffer<ModelObject> instance = createInstance(upsertGroup(), 10)) {
+            instance.write(modelObject);
+
+            assertThrows(DatastoreSaveException.class, instance::flush);
+
+            assertEquals(1, instance.getBufferedCount());
+        }
+        verify(mockUpsertFunction, times(2)).apply(modelObject, mockSqlSession);
+    }
+
+    @Test
+    public void testWrite_FullBufferIsWritten() throws Exception {
+        when(mockSqlSessionFactory.openSession(ExecutorType.BATCH)).thenReturn(mockSqlSession);
+        ModelObject first = createModelObject(UUID.randomUUID());
+        ModelObject second = createModelObject(UUID.randomUUID());
+        try (WriteBehindBuffer<ModelObject> instance = createInstance(upsertGroup(), 1)) {
+            instance.write(first);
+            instance.write(second);
+
+            verify(mockUpsertFunction, timeout(5000).times(1)).apply(first, mockSqlSession);
+            assertEquals(1, instance.getBufferedCount());
+        }
+    }
+
+    @Test
+    public void testWrite_FailedWriteKeepsBufferBounded() throws Exception {
+        when(mockSqlSessionFactory.openSession(ExecutorType.BATCH)).thenReturn(mockSqlSession);
+        ModelObject first = createModelObject(UUID.randomUUID());
+        ModelObject second = createModelObject(UUID.randomUUID());
+        when(mockUpsertFunction.apply(first, mockSqlSession)).thenThrow(new DatastoreSaveException("failed"), new DatastoreSaveException("failed"))
+                .thenReturn(UpsertOutcome.UPDATED);
+        try (WriteBehindBuffer<ModelObject> instance = createInstance(upsertGroup(), 1)) {
+            instance.write(first);
+            assertThrows(DatastoreSaveException.class, instance::flush);
+            Thread writer = new Thread(() -> {
+                try {
+                    instance.write(second);
+                } catch (DatastoreSaveException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            writer.start();
+
+            verify(mockUpsertFunction, timeout(5000).times(2)).apply(first, mockSqlSession);
+            assertTrue(writer.isAlive());
+
+            instance.flush();
+            writer.join(5000);
+            assertEquals(1, instance.getBufferedCount());
+        }
+        verify(mockUpsertFunction, times(1)).apply(second, mockSqlSession);
+    }
+
+    @Test
+    public void testWrite_Closed() throws Exception {
+        WriteBehindBuffer<ModelObject> instance = createInstance(upsertGroup(), 10);
+        instance.close();
+
+        assertThrows(IllegalStateException.class, () -> instance.write(createModelObject(UUID.randomUUID())));
+        verify(mockSqlSessionFactory, never()).openSession(ExecutorType.BATCH);
+    }
+
+    @Test
+    public void testConstructor_NoUpsertFunction() {
+        assertThrows(IllegalArgumentException.class, () -> createInstance(new DatabaseOperationGroup.Builder<ModelObject>().build(), 10));
+    }
+
+    private DatabaseOperationGroup<ModelObject> upsertGroup() {
+        return new DatabaseOperationGroup.Builder<ModelObject>().setUpsertFunction(mockUpsertFunction).build();
+    }
+
+    private WriteBehindBuffer<ModelObject> createInstance(final DatabaseOperationGroup<ModelObject> group, final int maximumBufferedObjects) {
+        return new WriteBehindBuffer<>(group, mockSqlSessionFactory, ids::get, maximumBufferedObjects, INTERVAL);
+    }
+
+    private ModelObject createModelObject(final UUID id) {
+        ModelObject modelObject = mock(ModelObject.class);
+        ids.put(modelObject, id);
+        return modelObject;
+    }
+}
\ No newline at end of file
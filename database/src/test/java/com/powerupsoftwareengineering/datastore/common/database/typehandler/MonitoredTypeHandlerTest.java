@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) Power Up Software Engineering LLC 2026.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.powerupsoftwareengineering.datastore.common.database.typehandler;
+
+import java.nio.file.Path;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.ibatis.executor.result.ResultMapException;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MonitoredTypeHandlerTest {
+    private static final UUID EXPECTED_UUID = UUID.randomUUID();
+    private static final String COLUMN_NAME = "column";
+
+    @Mock
+    private ResultSet mockResultSet;
+    @Mock
+    private CallableStatement mockCallableStatement;
+    @Mock
+    private PreparedStatement mockPreparedStatement;
+    @TempDir
+    private Path tempDir;
+    private TypeHandler<UUID> delegate;
+    private MonitoredTypeHandler<UUID> instance;
+
+    @BeforeEach
+    public void setUp() {
+        delegate = new UuidBaseTypeHandler();
+        instance = new MonitoredTypeHandler<>(delegate);
+    }
+
+    @Test
+    public void testSetParameter() throws Exception {
+        instance.setParameter(mockPreparedStatement, 1, EXPECTED_UUID, JdbcType.VARCHAR);
+
+        verify(mockPreparedStatement, times(1)).setString(1, EXPECTED_UUID.toString());
+        assertSame(delegate, instance.getDelegate());
+    }
+
+    @Test
+    public void testGetResult() throws Exception {
+        when(mockResultSet.getString(COLUMN_NAME)).thenReturn(EXPECTED_UUID.toString());
+        when(mockResultSet.getString(1)).thenReturn(EXPECTED_UUID.toString());
+        when(mockCallableStatement.getString(1)).thenReturn(EXPECTED_UUID.toString());
+
+        assertEquals(EXPECTED_UUID, instance.getResult(mockResultSet, COLUMN_NAME));
+        assertEquals(EXPECTED_UUID, instance.getResult(mockResultSet, 1));
+        assertEquals(EXPECTED_UUID, instance.getResult(mockCallableStatement, 1));
+    }
+
+    @Test
+    public void testGetResult_Event() throws Exception {
+        when(mockResultSet.getString(COLUMN_NAME)).thenReturn(EXPECTED_UUID.toString());
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(TypeHandlerConversionEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            instance.getResult(mockResultSet, COLUMN_NAME);
+            recording.stop();
+            Path file = tempDir.resolve("events.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        assertEquals(1, events.size());
+        assertEquals("RESULT", events.get(0).getString("direction"));
+        assertEquals(COLUMN_NAME, events.get(0).getString("column"));
+        assertEquals(UuidBaseTypeHandler.class.getName(), events.get(0).getClass("typeHandler").getName());
+        assertFalse(events.get(0).getBoolean("failed"));
+    }
+
+    @Test
+    public void testGetResult_FailureEvent() throws Exception {
+        when(mockResultSet.getString(COLUMN_NAME)).thenThrow(new SQLException("failed"));
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(TypeHandlerConversionEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            assertThrows(ResultMapException.class, () -> instance.getResult(mockResultSet, COLUMN_NAME));
+            recording.stop();
+            Path file = tempDir.resolve("events.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        assertEquals(1, events.size());
+        assertTrue(events.get(0).getBoolean("failed"));
+    }
+}
\ No newline at end of file